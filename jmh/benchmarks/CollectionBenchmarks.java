@@ -0,0 +1,447 @@
+package benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import datastructures.linear.array.DynamicArray;
+import datastructures.linear.linkedlist.DoublyCircularLinkedList;
+import datastructures.linear.linkedlist.LinkedList;
+import datastructures.linear.queue.ArrayQueue;
+import datastructures.linear.queue.LinkedQueue;
+import datastructures.linear.stack.ArrayStack;
+import datastructures.linear.stack.LinkedStack;
+import datastructures.nonlinear.graph.Graph;
+import datastructures.nonlinear.hash.HashMap;
+import datastructures.nonlinear.hash.HashSet;
+import datastructures.nonlinear.hash.IntHashSet;
+import datastructures.nonlinear.hash.IntObjectHashMap;
+import datastructures.nonlinear.hash.LongLongHashMap;
+import datastructures.nonlinear.hash.RobinHoodHashMap;
+import datastructures.nonlinear.heap.Heap;
+import datastructures.nonlinear.tree.Avl;
+import datastructures.nonlinear.tree.BinarySearchTree;
+import datastructures.nonlinear.tree.BinaryTree;
+import datastructures.nonlinear.trie.Trie;
+
+// Each operation builds the collection from the keys and then reads every key back, so the
+// numbers cover both growth (resizes, rebalancing) and lookups. The java.util equivalent
+// runs alongside each one as the baseline.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmarks {
+    @State(Scope.Thread)
+    public static class Keys {
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        int[] ints;
+        Integer[] keys;
+        String[] words;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            ints = distribution.generate(size);
+            keys = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+            words = Arrays.stream(ints).mapToObj(Integer::toHexString).toArray(String[]::new);
+        }
+    }
+
+    // The slow ones: the unbalanced BST degenerates to a list on sorted input, BinaryTree
+    // walks the tree level by level to find each insertion point and each key, and Graph
+    // takes seconds per operation at a million vertices
+    @State(Scope.Thread)
+    public static class SmallKeys {
+        @Param({ "1000", "10000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        Integer[] keys;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            keys = Arrays.stream(distribution.generate(size)).boxed().toArray(Integer[]::new);
+        }
+    }
+
+    @Benchmark
+    public long hashMap(Keys state) {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (Integer key : state.keys) {
+            map.insert(key, key);
+        }
+        long sum = 0;
+        for (Integer key : state.keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long hashMapIncremental(Keys state) {
+        HashMap<Integer, Integer> map = new HashMap<>(true);
+        for (Integer key : state.keys) {
+            map.insert(key, key);
+        }
+        long sum = 0;
+        for (Integer key : state.keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long robinHoodHashMap(Keys state) {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>();
+        for (Integer key : state.keys) {
+            map.insert(key, key);
+        }
+        long sum = 0;
+        for (Integer key : state.keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkHashMap(Keys state) {
+        java.util.HashMap<Integer, Integer> map = new java.util.HashMap<>();
+        for (Integer key : state.keys) {
+            map.put(key, key);
+        }
+        long sum = 0;
+        for (Integer key : state.keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long hashSet(Keys state) {
+        HashSet<Integer> set = new HashSet<>();
+        for (Integer key : state.keys) {
+            set.add(key);
+        }
+        long found = 0;
+        for (Integer key : state.keys) {
+            found += set.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long jdkHashSet(Keys state) {
+        java.util.HashSet<Integer> set = new java.util.HashSet<>();
+        for (Integer key : state.keys) {
+            set.add(key);
+        }
+        long found = 0;
+        for (Integer key : state.keys) {
+            found += set.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long intObjectHashMap(Keys state) {
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>();
+        for (int i = 0; i < state.ints.length; i++) {
+            map.insert(state.ints[i], state.keys[i]);
+        }
+        long sum = 0;
+        for (int key : state.ints) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intHashSet(Keys state) {
+        IntHashSet set = new IntHashSet();
+        for (int key : state.ints) {
+            set.add(key);
+        }
+        long found = 0;
+        for (int key : state.ints) {
+            found += set.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    // Counting occurrences, the typical use of a long-to-long map
+    @Benchmark
+    public long longLongHashMap(Keys state) {
+        LongLongHashMap map = new LongLongHashMap();
+        for (int key : state.ints) {
+            map.addTo(key, 1);
+        }
+        long sum = 0;
+        for (int key : state.ints) {
+            sum += map.get(key, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long dynamicArray(Keys state) {
+        DynamicArray<Integer> array = new DynamicArray<>();
+        for (Integer key : state.keys) {
+            array.append(key);
+        }
+        long sum = 0;
+        for (int i = 0; i < state.keys.length; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkArrayList(Keys state) {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer key : state.keys) {
+            list.add(key);
+        }
+        long sum = 0;
+        for (int i = 0; i < state.keys.length; i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedList(Keys state) {
+        LinkedList<Integer> list = new LinkedList<>();
+        for (Integer key : state.keys) {
+            list.append(key);
+        }
+        long sum = 0;
+        while (!list.isEmpty()) {
+            sum += list.popFirst();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long doublyCircularLinkedList(Keys state) {
+        DoublyCircularLinkedList<Integer> list = new DoublyCircularLinkedList<>();
+        for (Integer key : state.keys) {
+            list.insertBack(key);
+        }
+        long sum = 0;
+        while (!list.isEmpty()) {
+            sum += list.peekFront();
+            list.deleteFront();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arrayStack(Keys state) {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        for (Integer key : state.keys) {
+            stack.push(key);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedStack(Keys state) {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        for (Integer key : state.keys) {
+            stack.push(key);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkArrayDequeStack(Keys state) {
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        for (Integer key : state.keys) {
+            stack.push(key);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long arrayQueue(Keys state) {
+        ArrayQueue<Integer> queue = new ArrayQueue<>();
+        for (Integer key : state.keys) {
+            queue.enqueue(key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedQueue(Keys state) {
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        for (Integer key : state.keys) {
+            queue.enqueue(key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkArrayDequeQueue(Keys state) {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (Integer key : state.keys) {
+            queue.offer(key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long heap(Keys state) {
+        Heap<Integer> heap = new Heap<>(Heap.MIN);
+        for (Integer key : state.keys) {
+            heap.insert(key);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long jdkPriorityQueue(Keys state) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>();
+        for (Integer key : state.keys) {
+            heap.add(key);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long binarySearchTree(SmallKeys state) {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (Integer key : state.keys) {
+            tree.insert(key);
+        }
+        long found = 0;
+        for (Integer key : state.keys) {
+            found += tree.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long binaryTree(SmallKeys state) {
+        BinaryTree<Integer> tree = new BinaryTree<>();
+        for (Integer key : state.keys) {
+            tree.insert(key);
+        }
+        long found = 0;
+        for (Integer key : state.keys) {
+            found += tree.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long avl(Keys state) {
+        Avl<Integer> tree = new Avl<>();
+        for (Integer key : state.keys) {
+            tree.insert(key);
+        }
+        long found = 0;
+        for (Integer key : state.keys) {
+            found += tree.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long jdkTreeSet(Keys state) {
+        TreeSet<Integer> tree = new TreeSet<>();
+        for (Integer key : state.keys) {
+            tree.add(key);
+        }
+        long found = 0;
+        for (Integer key : state.keys) {
+            found += tree.contains(key) ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public long trie(Keys state) {
+        Trie trie = new Trie();
+        for (String word : state.words) {
+            trie.insert(word);
+        }
+        long found = 0;
+        for (String word : state.words) {
+            found += trie.search(word) ? 1 : 0;
+        }
+        return found;
+    }
+
+    // An undirected path through the keys in input order, then every edge looked up and the
+    // traversals that return a result. bfs and dfs are left out since they print every
+    // vertex, and shortestPathUnweighted since it stores a null parent, which HashMap rejects.
+    @Benchmark
+    public long graph(SmallKeys state) {
+        Graph<Integer> graph = new Graph<>(false);
+        for (Integer key : state.keys) {
+            graph.addVertex(key);
+        }
+        for (int i = 1; i < state.keys.length; i++) {
+            graph.addEdge(state.keys[i - 1], state.keys[i]);
+        }
+        long found = 0;
+        for (int i = 1; i < state.keys.length; i++) {
+            found += graph.hasEdge(state.keys[i], state.keys[i - 1]) ? 1 : 0;
+        }
+        return found + graph.connectedIslandsCount() + (graph.isConnected() ? 1 : 0);
+    }
+}
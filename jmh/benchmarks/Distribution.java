@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.util.Random;
+
+// Input shapes the benchmarks run against, the distribution @Param of every benchmark. Every
+// distribution is generated from a fixed seed so runs are comparable with each other.
+public enum Distribution {
+    RANDOM,
+    SORTED,
+    REVERSED,
+    // Only a handful of distinct values, lots of duplicates
+    FEW_UNIQUE,
+    // Value k appears with probability proportional to 1 / k: a few very hot keys, a long tail
+    ZIPFIAN;
+
+    public static final long SEED = 42;
+
+    private static final int FEW_UNIQUE_VALUES = 16;
+
+    public int[] generate(int size) {
+        return generate(size, SEED);
+    }
+
+    public int[] generate(int size, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[size];
+        switch (this) {
+            case RANDOM -> {
+                for (int i = 0; i < size; i++) {
+                    values[i] = random.nextInt();
+                }
+            }
+            case SORTED -> {
+                for (int i = 0; i < size; i++) {
+                    values[i] = i;
+                }
+            }
+            case REVERSED -> {
+                for (int i = 0; i < size; i++) {
+                    values[i] = size - i;
+                }
+            }
+            case FEW_UNIQUE -> {
+                for (int i = 0; i < size; i++) {
+                    values[i] = random.nextInt(FEW_UNIQUE_VALUES);
+                }
+            }
+            case ZIPFIAN -> {
+                // Cumulative weights of ranks 1..size, then inverse transform sampling
+                double[] cumulative = new double[size];
+                double total = 0;
+                for (int rank = 1; rank <= size; rank++) {
+                    total += 1.0 / rank;
+                    cumulative[rank - 1] = total;
+                }
+                for (int i = 0; i < size; i++) {
+                    values[i] = rankAt(cumulative, random.nextDouble() * total);
+                }
+            }
+        }
+        return values;
+    }
+
+    // First rank whose cumulative weight reaches the target
+    private static int rankAt(double[] cumulative, double target) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
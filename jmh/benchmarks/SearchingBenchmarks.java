@@ -0,0 +1,305 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import algorithms.searching.BinarySearch;
+import algorithms.searching.ExponentialSearch;
+import algorithms.searching.EytzingerIndex;
+import algorithms.searching.InterpolationSearch;
+import algorithms.searching.JumpSearch;
+import algorithms.searching.LinearSearch;
+import algorithms.searching.LongEytzingerIndex;
+import algorithms.searching.SortedIndex;
+
+// Lookups into the sorted input, reported per lookup: each invocation runs a batch of
+// LOOKUPS queries drawn from the input with the same distribution, plus a share of misses.
+// A batch rather than a single query keeps the loop and query selection out of the way of
+// operations that take a few nanoseconds.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchingBenchmarks {
+    private static final int LOOKUPS = 1_000;
+    // Every fourth query looks for a value that is not in the array
+    private static final int MISS_EVERY = 4;
+    // Practically never generated: only RANDOM could produce it, with odds of n in 2^32
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    @State(Scope.Thread)
+    public static class Lookups {
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        Integer[] sorted;
+        Integer[] queries;
+        Integer[] sortedQueries;
+        int[] out;
+        EytzingerIndex<Integer> eytzinger;
+
+        int[] sortedInts;
+        int[] intQueries;
+        long[] sortedLongs;
+        LongEytzingerIndex longEytzinger;
+        SortedIndex sortedIndex;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            int[] input = distribution.generate(size);
+            sortedInts = input.clone();
+            Arrays.sort(sortedInts);
+            sorted = Arrays.stream(sortedInts).boxed().toArray(Integer[]::new);
+            intQueries = queries(input);
+            queries = Arrays.stream(intQueries).boxed().toArray(Integer[]::new);
+            sortedQueries = queries.clone();
+            Arrays.sort(sortedQueries);
+            out = new int[LOOKUPS];
+            eytzinger = EytzingerIndex.of(sorted);
+            sortedLongs = Arrays.stream(sortedInts).asLongStream().toArray();
+            longEytzinger = LongEytzingerIndex.of(sortedLongs);
+            sortedIndex = SortedIndex.build(sortedLongs);
+        }
+    }
+
+    // Linear scans, at the sizes where they compete with the sorted-array searches
+    @State(Scope.Thread)
+    public static class SmallLookups {
+        @Param({ "100", "1000", "10000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        Integer[] array;
+        Integer[] queries;
+        int[] ints;
+        int[] intQueries;
+        long[] longs;
+        byte[] bytes;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            ints = distribution.generate(size);
+            array = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+            intQueries = queries(ints);
+            queries = Arrays.stream(intQueries).boxed().toArray(Integer[]::new);
+            longs = Arrays.stream(ints).asLongStream().toArray();
+            bytes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                bytes[i] = (byte) ints[i];
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long jumpSearch(Lookups state) {
+        long found = 0;
+        for (Integer query : state.queries) {
+            found += JumpSearch.search(state.sorted, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long binarySearch(Lookups state) {
+        long found = 0;
+        for (Integer query : state.queries) {
+            found += BinarySearch.search(state.sorted, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] binarySearchAll(Lookups state) {
+        BinarySearch.searchAll(state.sorted, state.queries, state.out);
+        return state.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] binarySearchAllSortedQueries(Lookups state) {
+        BinarySearch.searchAll(state.sorted, state.sortedQueries, state.out);
+        return state.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long eytzingerIndex(Lookups state) {
+        long found = 0;
+        for (Integer query : state.queries) {
+            found += state.eytzinger.search(query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long exponentialSearch(Lookups state) {
+        long found = 0;
+        for (Integer query : state.queries) {
+            found += ExponentialSearch.search(state.sorted, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long jdkBinarySearch(Lookups state) {
+        long found = 0;
+        for (Integer query : state.queries) {
+            found += Arrays.binarySearch(state.sorted, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long binarySearchInts(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += BinarySearch.search(state.sortedInts, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long interpolationSearchInts(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += InterpolationSearch.search(state.sortedInts, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long exponentialSearchInts(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += ExponentialSearch.search(state.sortedInts, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long jdkBinarySearchInts(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += Arrays.binarySearch(state.sortedInts, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long binarySearchLongs(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += BinarySearch.search(state.sortedLongs, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long eytzingerIndexLongs(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += state.longEytzinger.search(query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long sortedIndex(Lookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += state.sortedIndex.search(query);
+        }
+        return found;
+    }
+
+    // One full scan per operation: the target is not in the array
+    @Benchmark
+    public int linearSearchMiss(Lookups state) {
+        return LinearSearch.search(state.sorted, MISSING);
+    }
+
+    @Benchmark
+    public int linearSearchParallelMiss(Lookups state) {
+        return LinearSearch.parallelSearch(state.sorted, MISSING);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long linearSearch(SmallLookups state) {
+        long found = 0;
+        for (Integer query : state.queries) {
+            found += LinearSearch.search(state.array, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long linearSearchInts(SmallLookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += LinearSearch.search(state.ints, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long linearSearchLongs(SmallLookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += LinearSearch.search(state.longs, query);
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long linearSearchBytes(SmallLookups state) {
+        long found = 0;
+        for (int query : state.intQueries) {
+            found += LinearSearch.search(state.bytes, (byte) query);
+        }
+        return found;
+    }
+
+    private static int[] queries(int[] input) {
+        Random random = new Random(Distribution.SEED ^ 0x5DEECE66DL);
+        int[] queries = new int[LOOKUPS];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = i % MISS_EVERY == 0 ? random.nextInt() : input[random.nextInt(input.length)];
+        }
+        return queries;
+    }
+}
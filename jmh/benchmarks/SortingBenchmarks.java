@@ -0,0 +1,430 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import algorithms.sorting.BubbleSort;
+import algorithms.sorting.ExternalSort;
+import algorithms.sorting.HeapSort;
+import algorithms.sorting.InsertionSort;
+import algorithms.sorting.MergeSort;
+import algorithms.sorting.QuickSort;
+import algorithms.sorting.RadixSort;
+import algorithms.sorting.RecordSort;
+import algorithms.sorting.SampleSort;
+import algorithms.sorting.SelectionSort;
+import algorithms.sorting.Sort;
+import algorithms.sorting.SortingNetwork;
+import algorithms.sorting.StringQuickSort;
+
+// One sort per operation, java.util.Arrays.sort alongside as the baseline for each input.
+// The sorts work in place, so every invocation first restores the unsorted input into a
+// preallocated array. That setup is outside the timings and allocates nothing, so B/op from
+// the GC profiler is what the sort itself allocates. Even the smallest sort takes
+// microseconds, far above the per-invocation timer overhead.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingBenchmarks {
+    private static final Sort.Order ORDER = Sort.Order.ASCENDING;
+
+    @State(Scope.Thread)
+    public static class Boxed {
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        Integer[] input;
+        Integer[] array;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            input = Arrays.stream(distribution.generate(size)).boxed().toArray(Integer[]::new);
+            array = new Integer[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(input, 0, array, 0, size);
+        }
+    }
+
+    // The O(n^2) sorts, at sizes where one operation stays well under a second
+    @State(Scope.Thread)
+    public static class SmallBoxed {
+        @Param({ "1000", "10000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        Integer[] input;
+        Integer[] array;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            input = Arrays.stream(distribution.generate(size)).boxed().toArray(Integer[]::new);
+            array = new Integer[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(input, 0, array, 0, size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Ints {
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        int[] input;
+        int[] array;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            input = distribution.generate(size);
+            array = new int[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(input, 0, array, 0, size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SmallInts {
+        @Param({ "1000", "10000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        int[] input;
+        int[] array;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            input = distribution.generate(size);
+            array = new int[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(input, 0, array, 0, size);
+        }
+    }
+
+    // Arrays of the sizes SortingNetwork handles, many per operation so one invocation still
+    // takes microseconds
+    @State(Scope.Thread)
+    public static class TinyInts {
+        static final int ARRAYS = 1 << 10;
+
+        @Param({ "4", "8", "16" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        int[][] input;
+        int[][] arrays;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            int[] values = distribution.generate(ARRAYS * size);
+            input = new int[ARRAYS][];
+            arrays = new int[ARRAYS][size];
+            for (int i = 0; i < ARRAYS; i++) {
+                input[i] = Arrays.copyOfRange(values, i * size, (i + 1) * size);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            for (int i = 0; i < ARRAYS; i++) {
+                System.arraycopy(input[i], 0, arrays[i], 0, size);
+            }
+        }
+    }
+
+    // Keys with a long shared prefix, the case three-way radix quicksort is built for
+    @State(Scope.Thread)
+    public static class Strings {
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        String[] input;
+        String[] array;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            input = Arrays.stream(distribution.generate(size))
+                    .mapToObj(value -> "https://example.com/items/" + value)
+                    .toArray(String[]::new);
+            array = new String[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(input, 0, array, 0, size);
+        }
+    }
+
+    // 16-byte records (long key + long payload) in direct buffers
+    @State(Scope.Thread)
+    public static class Records {
+        static final int RECORD_WIDTH = 16;
+
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        ByteBuffer input;
+        ByteBuffer records;
+        ByteBuffer scratch;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            int[] keys = distribution.generate(size);
+            input = ByteBuffer.allocateDirect(size * RECORD_WIDTH);
+            for (int i = 0; i < size; i++) {
+                input.putLong(i * RECORD_WIDTH, keys[i]);
+                input.putLong(i * RECORD_WIDTH + Long.BYTES, i);
+            }
+            records = ByteBuffer.allocateDirect(input.capacity());
+            scratch = ByteBuffer.allocateDirect(input.capacity());
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            records.put(0, input, 0, input.capacity());
+        }
+    }
+
+    // A 1 MiB budget keeps ExternalSort spilling several runs to disk instead of sorting in memory
+    @State(Scope.Thread)
+    public static class External {
+        static final long MEMORY_BUDGET = 1 << 20;
+
+        @Param({ "1000", "100000", "1000000" })
+        public int size;
+        @Param
+        public Distribution distribution;
+
+        Long[] keys;
+        Path directory;
+        ExternalSort<Long> sorter;
+
+        @Setup(Level.Trial)
+        public void generate() throws IOException {
+            keys = Arrays.stream(distribution.generate(size)).mapToObj(Long::valueOf).toArray(Long[]::new);
+            directory = Files.createTempDirectory("external-sort-benchmark");
+            sorter = new ExternalSort<>(ExternalSort.LONG_CODEC, MEMORY_BUDGET, directory);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteDirectory() throws IOException {
+            Files.delete(directory);
+        }
+    }
+
+    @Benchmark
+    public Integer[] bubbleSort(SmallBoxed state) {
+        BubbleSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] selectionSort(SmallBoxed state) {
+        SelectionSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] insertionSort(SmallBoxed state) {
+        InsertionSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] heapSort(Boxed state) {
+        HeapSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] heapSortBottomUp(Boxed state) {
+        HeapSort.sort(state.array, ORDER, HeapSort.Variant.BOTTOM_UP);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] heapSortQuaternary(Boxed state) {
+        HeapSort.sort(state.array, ORDER, HeapSort.Variant.QUATERNARY);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] quickSort(Boxed state) {
+        QuickSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] mergeSort(Boxed state) {
+        MergeSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] mergeSortParallel(Boxed state) {
+        MergeSort.parallelSort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] mergeSortAdaptive(Boxed state) {
+        MergeSort.adaptiveSort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] sampleSort(Boxed state) {
+        SampleSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] radixSortKeyed(Boxed state) {
+        RadixSort.sort(state.array, Integer::longValue, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public Integer[] jdkSortObjects(Boxed state) {
+        Arrays.sort(state.array);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] insertionSortInts(SmallInts state) {
+        InsertionSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] heapSortInts(Ints state) {
+        HeapSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] heapSortIntsBottomUp(Ints state) {
+        HeapSort.sort(state.array, ORDER, HeapSort.Variant.BOTTOM_UP);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] heapSortIntsQuaternary(Ints state) {
+        HeapSort.sort(state.array, ORDER, HeapSort.Variant.QUATERNARY);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] quickSortInts(Ints state) {
+        QuickSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] mergeSortInts(Ints state) {
+        MergeSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] radixSortInts(Ints state) {
+        RadixSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[] jdkSortInts(Ints state) {
+        Arrays.sort(state.array);
+        return state.array;
+    }
+
+    @Benchmark
+    public int[][] sortingNetworkInts(TinyInts state) {
+        for (int[] array : state.arrays) {
+            SortingNetwork.sort(array, ORDER);
+        }
+        return state.arrays;
+    }
+
+    // Insertion sort, the usual small-range cutoff, as a second baseline
+    @Benchmark
+    public int[][] insertionSortTinyInts(TinyInts state) {
+        for (int[] array : state.arrays) {
+            InsertionSort.sort(array, ORDER);
+        }
+        return state.arrays;
+    }
+
+    @Benchmark
+    public int[][] jdkSortTinyInts(TinyInts state) {
+        for (int[] array : state.arrays) {
+            Arrays.sort(array);
+        }
+        return state.arrays;
+    }
+
+    @Benchmark
+    public String[] stringQuickSort(Strings state) {
+        StringQuickSort.sort(state.array, ORDER);
+        return state.array;
+    }
+
+    @Benchmark
+    public String[] jdkSortStrings(Strings state) {
+        Arrays.sort(state.array);
+        return state.array;
+    }
+
+    @Benchmark
+    public ByteBuffer recordSort(Records state) {
+        RecordSort.sort(state.records, state.scratch, Records.RECORD_WIDTH, 0, ORDER);
+        return state.records;
+    }
+
+    @Benchmark
+    public void externalSort(External state, Blackhole blackhole) throws IOException {
+        state.sorter.sort(Arrays.asList(state.keys).iterator(), blackhole::consume, ORDER);
+    }
+}
@@ -1,6 +1,13 @@
 package algorithms.searching;
 
+import java.util.Arrays;
+
 public final class BinarySearch {
+    // Queries searched in lockstep by the interleaved descent
+    private static final int INTERLEAVED_GROUP = 8;
+    // Sorted batches with at least one query per 8 elements are swept instead of searched
+    private static final int SWEEP_RATIO = 8;
+
     // Space: O(1)
     // Time :Best O(1), Worst/Avg O(log n)
     public static <T extends Comparable<T>> int search(T[] array, T target) {
@@ -21,4 +28,144 @@ public final class BinarySearch {
 
         return -(left + 1); // As Arrays.binarySearch(...) dose
     }
+
+    // Searches array[low, high] only; the insertion point is still an index into the whole array
+    static <T extends Comparable<T>> int search(T[] array, int low, int high, T target) {
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = array[mid].compareTo(target);
+            if (comparison == 0) return mid;
+            if (comparison > 0) high = mid - 1;
+            else low = mid + 1;
+        }
+        return -(low + 1);
+    }
+
+    public static int search(int[] array, int target) {
+        return search(array, 0, array.length - 1, target);
+    }
+
+    static int search(int[] array, int low, int high, int target) {
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] == target) return mid;
+            if (array[mid] > target) high = mid - 1;
+            else low = mid + 1;
+        }
+        return -(low + 1);
+    }
+
+    public static int search(long[] array, long target) {
+        return search(array, 0, array.length - 1, target);
+    }
+
+    static int search(long[] array, int low, int high, long target) {
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] == target) return mid;
+            if (array[mid] > target) high = mid - 1;
+            else low = mid + 1;
+        }
+        return -(low + 1);
+    }
+
+    // Looks up every query at once. out[i] is the index of the first element equal to
+    // queries[i], or -(insertionPoint + 1) if there is none. That matches search(sorted,
+    // queries[i]) except with duplicates: search returns whichever equal element it lands on,
+    // searchAll always the first. The queries are not modified.
+    //  - Sorted queries that are dense relative to the array are answered in one sweep,
+    //    galloping forward from the previous answer, so the array is read front to back.
+    //  - Everything else runs an interleaved descent: groups of queries step down the array
+    //    together, so their independent cache misses overlap instead of queueing. Sorting an
+    //    unsorted batch first to sweep it costs more than it saves.
+    // Space: O(1)
+    // Time : O(m log(n / m)) for a sweep, O(m log n) otherwise
+    public static <T extends Comparable<T>> void searchAll(T[] sorted, T[] queries, int[] out) {
+        if (out.length < queries.length) {
+            throw new IllegalArgumentException("Output holds " + out.length + " results, need " + queries.length);
+        }
+        if (sorted.length == 0) {
+            Arrays.fill(out, 0, queries.length, -1);
+            return;
+        }
+
+        if (queries.length >= sorted.length / SWEEP_RATIO && isSorted(queries)) {
+            int from = 0;
+            for (int i = 0; i < queries.length; i++) {
+                from = gallop(sorted, from, queries[i]);
+                out[i] = toResult(sorted, from, queries[i]);
+            }
+        } else {
+            interleavedSearch(sorted, queries, out);
+        }
+    }
+
+    private static <T extends Comparable<T>> boolean isSorted(T[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1].compareTo(array[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Lower bound of target in sorted[from, n): probes from, from + 2, from + 5, from + 10,
+    // from + 19, ..., each gap twice the previous one, until it passes the target, then binary
+    // searches the last gap. Cheap when the answer is close to from, which it is for
+    // consecutive sorted queries.
+    private static <T extends Comparable<T>> int gallop(T[] sorted, int from, T target) {
+        int low = from; // everything before low is smaller than the target
+        int probe = from;
+        int step = 1;
+        while (probe < sorted.length && sorted[probe].compareTo(target) < 0) {
+            low = probe + 1;
+            probe = low + Math.min(step, sorted.length - low);
+            step <<= 1;
+        }
+
+        int high = Math.min(probe, sorted.length);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Branch-free lower bound run for a group of queries at a time. The number of steps only
+    // depends on the array length, so every query in a group takes the same steps together.
+    private static <T extends Comparable<T>> void interleavedSearch(T[] sorted, T[] queries, int[] out) {
+        int[] bases = new int[INTERLEAVED_GROUP];
+        for (int start = 0; start < queries.length; start += INTERLEAVED_GROUP) {
+            int count = Math.min(INTERLEAVED_GROUP, queries.length - start);
+            Arrays.fill(bases, 0);
+
+            // Invariant: the lower bound of each query is in [base, base + length]
+            int length = sorted.length;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int g = 0; g < count; g++) {
+                    int base = bases[g];
+                    bases[g] = sorted[base + half].compareTo(queries[start + g]) < 0 ? base + half : base;
+                }
+                length -= half;
+            }
+
+            for (int g = 0; g < count; g++) {
+                T query = queries[start + g];
+                int lowerBound = bases[g] + (sorted[bases[g]].compareTo(query) < 0 ? 1 : 0);
+                out[start + g] = toResult(sorted, lowerBound, query);
+            }
+        }
+    }
+
+    private static <T extends Comparable<T>> int toResult(T[] sorted, int lowerBound, T target) {
+        if (lowerBound < sorted.length && sorted[lowerBound].compareTo(target) == 0) {
+            return lowerBound;
+        }
+        return -(lowerBound + 1);
+    }
 }
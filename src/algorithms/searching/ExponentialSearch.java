@@ -0,0 +1,50 @@
+package algorithms.searching;
+
+// Galloping search: probes indices 1, 2, 4, 8, ... until it passes the target, then binary
+// searches the last gap. Finds targets near the front in a few probes and only needs to
+// know where the data ends once it gets there, which suits skewed lookups into big arrays.
+// Returns the same as BinarySearch: the index of the target, or -(insertionPoint + 1).
+public final class ExponentialSearch {
+    // Space: O(1)
+    // Time : O(log i), i = index of the target (or its insertion point)
+    public static <T extends Comparable<T>> int search(T[] array, T target) {
+        if (array.length == 0) {
+            return -1;
+        }
+
+        int bound = 1;
+        while (bound < array.length && array[bound].compareTo(target) < 0) {
+            bound = nextBound(bound);
+        }
+        return BinarySearch.search(array, bound >>> 1, Math.min(bound, array.length - 1), target);
+    }
+
+    public static int search(int[] array, int target) {
+        if (array.length == 0) {
+            return -1;
+        }
+
+        int bound = 1;
+        while (bound < array.length && array[bound] < target) {
+            bound = nextBound(bound);
+        }
+        return BinarySearch.search(array, bound >>> 1, Math.min(bound, array.length - 1), target);
+    }
+
+    public static int search(long[] array, long target) {
+        if (array.length == 0) {
+            return -1;
+        }
+
+        int bound = 1;
+        while (bound < array.length && array[bound] < target) {
+            bound = nextBound(bound);
+        }
+        return BinarySearch.search(array, bound >>> 1, Math.min(bound, array.length - 1), target);
+    }
+
+    // Doubles the bound without overflowing past Integer.MAX_VALUE
+    private static int nextBound(int bound) {
+        return bound > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : bound * 2;
+    }
+}
@@ -0,0 +1,88 @@
+package algorithms.searching;
+
+// Guesses where the target sits from its value, assuming the keys are spread evenly between
+// the two ends of the range, instead of always probing the middle. On uniformly distributed
+// keys (timestamps, sequence numbers) that takes O(log log n) probes, about 3 for a million
+// keys instead of 20. On skewed keys a guess can move the range by one element at a time,
+// so after log2(n) guesses the search switches to plain binary search to stay O(log n).
+// Returns the same as BinarySearch: the index of the target, or -(insertionPoint + 1).
+public final class InterpolationSearch {
+    // Space: O(1)
+    // Time : O(log log n) average on uniform keys, O(log n) worst
+    public static int search(int[] array, int target) {
+        int low = 0;
+        int high = array.length - 1;
+        int guesses = guessLimit(array.length);
+        while (low <= high) {
+            if (target < array[low]) {
+                return -(low + 1);
+            }
+            if (target > array[high]) {
+                return -(high + 2);
+            }
+            // array[low] <= target <= array[high] from here on
+            if (guesses-- == 0) {
+                return BinarySearch.search(array, low, high, target);
+            }
+            if (array[low] == array[high]) {
+                return low;
+            }
+
+            int probe = interpolate(low, high, array[low], array[high], target);
+            if (array[probe] == target) {
+                return probe;
+            }
+            if (array[probe] < target) {
+                low = probe + 1;
+            } else {
+                high = probe - 1;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // Same algorithm as the int overload
+    public static int search(long[] array, long target) {
+        int low = 0;
+        int high = array.length - 1;
+        int guesses = guessLimit(array.length);
+        while (low <= high) {
+            if (target < array[low]) {
+                return -(low + 1);
+            }
+            if (target > array[high]) {
+                return -(high + 2);
+            }
+            if (guesses-- == 0) {
+                return BinarySearch.search(array, low, high, target);
+            }
+            if (array[low] == array[high]) {
+                return low;
+            }
+
+            int probe = interpolate(low, high, array[low], array[high], target);
+            if (array[probe] == target) {
+                return probe;
+            }
+            if (array[probe] < target) {
+                low = probe + 1;
+            } else {
+                high = probe - 1;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // Position of target on the straight line from (low, lowValue) to (high, highValue).
+    // Worked out in double: the differences can overflow a long, and the guess only needs
+    // to be close. Requires lowValue <= target <= highValue and lowValue < highValue.
+    private static int interpolate(int low, int high, double lowValue, double highValue, double target) {
+        double fraction = (target - lowValue) / (highValue - lowValue);
+        int probe = low + (int) (fraction * (high - low));
+        return Math.max(low, Math.min(high, probe));
+    }
+
+    private static int guessLimit(int length) {
+        return 32 - Integer.numberOfLeadingZeros(length);
+    }
+}
@@ -1,6 +1,28 @@
 package algorithms.searching;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
 public final class LinearSearch {
+    // Arrays at or below this size are scanned sequentially by the parallel searches
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+    // A scanning task checks whether an earlier match has been found once per this many elements
+    private static final int CANCELLATION_CHECK_INTERVAL = 1 << 10;
+    // Reads 8 bytes of a byte[] as one long, lowest index in the lowest byte
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    // Whether the JVM was started with --add-modules jdk.incubator.vector. VectorizedSearch
+    // may only be loaded when it was; otherwise the primitive searches run their own loops.
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
     // Space: O(1)
     // Time : Best O(1), Avg, Worst O(n)
     public static <T> int search(T[] array, T target) {
@@ -13,4 +35,142 @@ public final class LinearSearch {
         }
         return -1;
     }
+
+    // Index of the first element equal to target (null matches null), or -1, found by
+    // scanning the array on every thread of the common ForkJoinPool
+    public static <T> int parallelSearch(T[] array, T target) {
+        return findFirst(array, element -> Objects.equals(element, target));
+    }
+
+    // Index of the first element matching the predicate, or -1. The array is split into
+    // ranges scanned concurrently; once a match is found, every range that starts after it
+    // stops scanning, since it can no longer hold the first match. The predicate may be
+    // called on elements after the first match and must be safe to call from several threads.
+    // Space: O(log n) tasks
+    // Time : O(n) work, O(n / p) on p threads when matches are rare
+    public static <T> int findFirst(T[] array, Predicate<? super T> predicate) {
+        if (array.length <= PARALLEL_THRESHOLD) {
+            return scan(array, predicate, 0, array.length, null);
+        }
+
+        AtomicInteger firstMatch = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new FindTask<>(array, predicate, 0, array.length, firstMatch));
+        int index = firstMatch.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    // Scans array[low, high) and returns the first match, or -1. With a shared firstMatch,
+    // gives up (returning -1) as soon as a match before the current position is known.
+    private static <T> int scan(T[] array, Predicate<? super T> predicate, int low, int high,
+            AtomicInteger firstMatch) {
+        for (int start = low; start < high; start += CANCELLATION_CHECK_INTERVAL) {
+            if (firstMatch != null && firstMatch.get() < start) {
+                return -1;
+            }
+            int end = Math.min(high, start + CANCELLATION_CHECK_INTERVAL);
+            for (int i = start; i < end; i++) {
+                if (predicate.test(array[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Same scan as the generic overload, on a primitive array without boxing or equals calls.
+    // With the Vector API it compares a full SIMD register of elements per step.
+    public static int search(int[] array, int target) {
+        return VECTOR_API ? VectorizedSearch.search(array, target) : scalarSearch(array, target);
+    }
+
+    public static int search(long[] array, long target) {
+        return VECTOR_API ? VectorizedSearch.search(array, target) : scalarSearch(array, target);
+    }
+
+    public static int search(byte[] array, byte target) {
+        return VECTOR_API ? VectorizedSearch.search(array, target) : swarSearch(array, target);
+    }
+
+    // The fallbacks without the Vector API. Package-private so the tests, which always run
+    // with the module, can call them directly. Kept as plain loops on purpose: the JIT
+    // unrolls them, and hand-blocked variants measured slower.
+    static int scalarSearch(int[] array, int target) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarSearch(long[] array, long target) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // SWAR: reads 8 bytes as one long and tests all of them at once. XOR with the target
+    // repeated in every byte turns matching bytes into zero bytes, and
+    // (word - 0x01..01) & ~word & 0x80..80 flags them; the lowest flag is always exact.
+    static int swarSearch(byte[] array, byte target) {
+        long pattern = (target & 0xFFL) * LOW_BITS;
+        int i = 0;
+        for (; i + Long.BYTES <= array.length; i += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(array, i) ^ pattern;
+            long zeroBytes = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (zeroBytes != 0) {
+                return i + (Long.numberOfTrailingZeros(zeroBytes) >>> 3);
+            }
+        }
+        for (; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Splits the range in halves down to PARALLEL_THRESHOLD and scans the pieces concurrently,
+    // keeping the lowest match found so far in firstMatch. Serializable only through
+    // ForkJoinTask; tasks are never serialized.
+    @SuppressWarnings("serial")
+    private static final class FindTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final Predicate<? super T> predicate;
+        private final int low;
+        private final int high;
+        private final AtomicInteger firstMatch;
+
+        FindTask(T[] array, Predicate<? super T> predicate, int low, int high, AtomicInteger firstMatch) {
+            this.array = array;
+            this.predicate = predicate;
+            this.low = low;
+            this.high = high;
+            this.firstMatch = firstMatch;
+        }
+
+        @Override
+        protected void compute() {
+            // A match before this range is already known, nothing here can beat it
+            if (firstMatch.get() < low) {
+                return;
+            }
+
+            if (high - low <= PARALLEL_THRESHOLD) {
+                int index = scan(array, predicate, low, high, firstMatch);
+                if (index >= 0) {
+                    firstMatch.accumulateAndGet(index, Math::min);
+                }
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            invokeAll(
+                    new FindTask<>(array, predicate, low, mid, firstMatch),
+                    new FindTask<>(array, predicate, mid, high, firstMatch));
+        }
+    }
 }
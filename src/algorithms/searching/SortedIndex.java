@@ -0,0 +1,207 @@
+package algorithms.searching;
+
+import java.util.Arrays;
+
+// Static search index over a sorted long[] that predicts where a key is instead of searching
+// for it (a learned index). The keys are split into segments, each approximated by a straight
+// line from key to position that is off by at most maxError positions for every key in it.
+// A lookup finds its segment among the segment start keys (the fence pointers, few enough to
+// stay in cache), evaluates the line, and finishes with a binary search over the 2 * maxError
+// positions around the prediction.
+//
+// Dense or evenly spaced keys (sequential IDs, timestamps at a steady rate) fit in a handful
+// of segments, so a lookup costs a prediction plus a search over a few dozen elements
+// instead of log2(n) probes spread across the whole array.
+public final class SortedIndex {
+    public static final int DEFAULT_MAX_ERROR = 16;
+
+    // Not copied: the array must not change while the index is in use
+    private final long[] keys;
+    // Segment i covers keys[segmentStarts[i], segmentStarts[i + 1]) and starts at segmentKeys[i]
+    private final long[] segmentKeys;
+    private final int[] segmentStarts;
+    private final double[] slopes;
+    // Largest distance between a predicted and an actual position, measured after fitting
+    private final int maxError;
+
+    private SortedIndex(long[] keys, long[] segmentKeys, int[] segmentStarts, double[] slopes) {
+        this.keys = keys;
+        this.segmentKeys = segmentKeys;
+        this.segmentStarts = segmentStarts;
+        this.slopes = slopes;
+        this.maxError = measureMaxError();
+    }
+
+    public static SortedIndex build(long[] sorted) {
+        return build(sorted, DEFAULT_MAX_ERROR);
+    }
+
+    // Fits the segments in one pass with the shrinking-cone method: a segment keeps the range
+    // of slopes that still put every key seen so far within maxError of its position, and a
+    // new segment starts at the first key that would leave that range empty.
+    // A run of duplicates must fit with both its first and last copy, so that a missing key
+    // just after the run is found as well. When only the first copy fits, the run ends the
+    // segment instead.
+    // Space: O(segments)
+    // Time : O(n)
+    public static SortedIndex build(long[] sorted, int maxError) {
+        if (maxError < 0) {
+            throw new IllegalArgumentException("Max error cannot be negative: " + maxError);
+        }
+
+        long[] segmentKeys = new long[16];
+        int[] segmentStarts = new int[16];
+        double[] slopes = new double[16];
+        int count = 0;
+
+        int start = 0;
+        double minSlope = 0;
+        double maxSlope = Double.POSITIVE_INFINITY;
+        int i = 0;
+        while (i < sorted.length) {
+            int first = i;
+            int last = i;
+            while (last + 1 < sorted.length && sorted[last + 1] == sorted[first]) {
+                last++;
+            }
+
+            // The segment's first key is predicted exactly, only its copies can be off
+            boolean fits = true;
+            boolean endsSegment = last - first > maxError;
+            if (first != start) {
+                double dx = distance(sorted[first], sorted[start]);
+                double low = Math.max(minSlope, (first - start - maxError) / dx);
+                double high = Math.min(maxSlope, (first - start + maxError) / dx);
+                fits = low <= high;
+                if (fits) {
+                    minSlope = low;
+                    maxSlope = high;
+                    double lastLow = Math.max(low, (last - start - maxError) / dx);
+                    double lastHigh = Math.min(high, (last - start + maxError) / dx);
+                    endsSegment = lastLow > lastHigh;
+                    if (!endsSegment) {
+                        minSlope = lastLow;
+                        maxSlope = lastHigh;
+                    }
+                }
+            }
+            if (fits) {
+                i = last + 1;
+            }
+            if (fits && !endsSegment && i < sorted.length) {
+                continue;
+            }
+
+            // Close the current segment with a slope in the middle of what it allows
+            if (count == segmentKeys.length) {
+                segmentKeys = Arrays.copyOf(segmentKeys, count * 2);
+                segmentStarts = Arrays.copyOf(segmentStarts, count * 2);
+                slopes = Arrays.copyOf(slopes, count * 2);
+            }
+            segmentKeys[count] = sorted[start];
+            segmentStarts[count] = start;
+            slopes[count] = maxSlope == Double.POSITIVE_INFINITY ? minSlope : (minSlope + maxSlope) / 2;
+            count++;
+
+            start = i;
+            minSlope = 0;
+            maxSlope = Double.POSITIVE_INFINITY;
+        }
+
+        return new SortedIndex(sorted, Arrays.copyOf(segmentKeys, count),
+                Arrays.copyOf(segmentStarts, count), Arrays.copyOf(slopes, count));
+    }
+
+    // Same contract as BinarySearch.search on the sorted array: the index of the key, or
+    // -(insertionPoint + 1) if absent. With duplicates this is the index of the first one.
+    // Space: O(1)
+    // Time : O(log segments + log maxError)
+    public int search(long key) {
+        if (keys.length == 0 || key < segmentKeys[0]) {
+            return -1;
+        }
+
+        // Last segment starting at or before the key
+        int low = 0;
+        int high = segmentKeys.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segmentKeys[mid] <= key) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int segment = low;
+        int segmentStart = segmentStarts[segment];
+        int segmentEnd = segment + 1 < segmentStarts.length ? segmentStarts[segment + 1] : keys.length;
+
+        // The first key not smaller than the search key is within maxError + 1 of the
+        // prediction, or it is the next segment's first key when the search key is past the
+        // last run of this segment and that run was too long to fit
+        int predicted = (int) Math.max(segmentStart, Math.min(segmentEnd, predict(segment, key)));
+        int windowEnd = (int) Math.min(segmentEnd, (long) predicted + maxError + 1);
+        int from = lowerBound(key, Math.max(segmentStart, predicted - maxError), windowEnd);
+        if (from == windowEnd && from < segmentEnd && keys[from] < key) {
+            from = segmentEnd;
+        }
+
+        return from < keys.length && keys[from] == key ? from : -(from + 1);
+    }
+
+    // First index in [from, to) whose key is not smaller than the search key, or to
+    private int lowerBound(long key, int from, int to) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (keys[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // Number of line segments in the model
+    public int segmentCount() {
+        return segmentKeys.length;
+    }
+
+    public int maxError() {
+        return maxError;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private long predict(int segment, long key) {
+        return segmentStarts[segment] + Math.round(slopes[segment] * distance(key, segmentKeys[segment]));
+    }
+
+    // key - from as a double, exact for any pair of longs with key >= from (the difference
+    // may not fit in a signed long)
+    private static double distance(long key, long from) {
+        long difference = key - from;
+        return difference >= 0 ? difference : difference + 0x1p64;
+    }
+
+    // The fit guarantees the requested bound in exact arithmetic; measuring keeps lookups
+    // correct whatever rounding the doubles add
+    private int measureMaxError() {
+        int error = 0;
+        for (int segment = 0; segment < segmentKeys.length; segment++) {
+            int end = segment + 1 < segmentStarts.length ? segmentStarts[segment + 1] : keys.length;
+            for (int i = segmentStarts[segment]; i < end; i++) {
+                if (i == segmentStarts[segment] || keys[i] != keys[i - 1]) {
+                    error = (int) Math.max(error, Math.abs(predict(segment, keys[i]) - i));
+                    // The last copy of the previous key, which is not the segment's last run
+                    if (i > segmentStarts[segment]) {
+                        error = (int) Math.max(error, Math.abs(predict(segment, keys[i - 1]) - (i - 1)));
+                    }
+                }
+            }
+        }
+        return error;
+    }
+}
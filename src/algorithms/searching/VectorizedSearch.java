@@ -0,0 +1,71 @@
+package algorithms.searching;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+// The primitive linear scans of LinearSearch on the Vector API: each step compares a whole
+// SIMD register of elements against the target and stops at the first lane that matches.
+// jdk.incubator.vector is only resolved when the JVM runs with
+// --add-modules jdk.incubator.vector, so this class must not be touched otherwise;
+// LinearSearch checks for the module before calling in and keeps its loops as the fallback.
+final class VectorizedSearch {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    private VectorizedSearch() {
+    }
+
+    // Space: O(1)
+    // Time : O(n / lanes) vector compares, plus at most lanes - 1 scalar ones for the tail
+    static int search(int[] array, int target) {
+        int i = 0;
+        for (int bound = INTS.loopBound(array.length); i < bound; i += INTS.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(INTS, array, i).eq(target);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int search(long[] array, long target) {
+        int i = 0;
+        for (int bound = LONGS.loopBound(array.length); i < bound; i += LONGS.length()) {
+            VectorMask<Long> matches = LongVector.fromArray(LONGS, array, i).eq(target);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int search(byte[] array, byte target) {
+        int i = 0;
+        for (int bound = BYTES.loopBound(array.length); i < bound; i += BYTES.length()) {
+            VectorMask<Byte> matches = ByteVector.fromArray(BYTES, array, i).eq(target);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        for (; i < array.length; i++) {
+            if (array[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
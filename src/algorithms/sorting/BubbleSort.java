@@ -1,14 +1,21 @@
 package algorithms.sorting;
 
+import java.util.Comparator;
+
 public final class BubbleSort {
     // Space: O(1) in-place
     // Time : O(n^2) worst/average, O(n) best case
     public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
         for (int i = 0; i < array.length - 1; i++) {
             boolean swapped = false;
             for (int j = 0; j < array.length - 1 - i; j++) {
                 // Compare adjacent elements, bubble largest to end            
-                if (Sort.isOutOfOrder(array[j], array[j + 1], order)) {
+                if (comparator.compare(array[j], array[j + 1]) > 0) {
                     Sort.swap(array, j, j + 1);
                     swapped = true;
                 }
@@ -19,4 +26,52 @@ public final class BubbleSort {
             }
         }
     }
+
+    public static void sort(int[] array, Sort.Order order) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        for (int i = 0; i < array.length - 1; i++) {
+            boolean swapped = false;
+            for (int j = 0; j < array.length - 1 - i; j++) {
+                if (Sort.isOutOfOrder(array[j], array[j + 1], descending)) {
+                    Sort.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        for (int i = 0; i < array.length - 1; i++) {
+            boolean swapped = false;
+            for (int j = 0; j < array.length - 1 - i; j++) {
+                if (Sort.isOutOfOrder(array[j], array[j + 1], descending)) {
+                    Sort.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        for (int i = 0; i < array.length - 1; i++) {
+            boolean swapped = false;
+            for (int j = 0; j < array.length - 1 - i; j++) {
+                if (Sort.isOutOfOrder(array[j], array[j + 1], descending)) {
+                    Sort.swap(array, j, j + 1);
+                    swapped = true;
+                }
+            }
+            if (!swapped) {
+                break;
+            }
+        }
+    }
 }
@@ -0,0 +1,411 @@
+package algorithms.sorting;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import datastructures.nonlinear.heap.Heap;
+
+// Sorts inputs that do not fit in memory. Records are read into a chunk until the memory
+// budget is reached, the chunk is sorted with MergeSort and spilled to a temporary run file,
+// and once the input is exhausted all runs are merged with a min-heap of their head records.
+// Run files go through plain FileChannel reads and writes in blocks of IO_BUFFER_SIZE, using
+// direct buffers so the channel copies straight from and to them. All spills share one
+// write buffer. Nothing is memory-mapped, since a mapping stays open until the buffer is
+// garbage collected, and that would keep run files from being deleted on some platforms.
+public final class ExternalSort<T> {
+    // Converts records to and from bytes for the run files
+    public interface RecordCodec<T> {
+        // Number of bytes encode will write for this record
+        int encodedSize(T record);
+
+        void encode(T record, ByteBuffer buffer);
+
+        // Reads one record; the buffer holds exactly encodedSize(record) bytes
+        T decode(ByteBuffer buffer);
+    }
+
+    public static final RecordCodec<Long> LONG_CODEC = new RecordCodec<>() {
+        @Override
+        public int encodedSize(Long record) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long record, ByteBuffer buffer) {
+            buffer.putLong(record);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    public static final RecordCodec<String> STRING_CODEC = new RecordCodec<>() {
+        @Override
+        public int encodedSize(String record) {
+            return record.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void encode(String record, ByteBuffer buffer) {
+            buffer.put(record.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    // Every record in a run file is prefixed with its encoded length
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+    // Run files are read and written this many bytes at a time; a larger record gets a
+    // buffer of its own size
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    // At most this many runs are merged at once, each holding an open file and a read buffer
+    private static final int MAX_MERGE_FAN_IN = 64;
+    private static final int DEFAULT_CHUNK_CAPACITY = 1024;
+
+    private final RecordCodec<T> codec;
+    private final long memoryBudget;
+    private final Path temporaryDirectory;
+
+    // Shared by every RunWriter of this sorter, allocated on the first spill
+    private ByteBuffer writeBuffer;
+    private long bytesSpilled;
+    private int runsSpilled;
+
+    // memoryBudget is measured in encoded bytes: a chunk is spilled once the encoded size
+    // of its records would exceed it. The objects themselves take more heap than that, so
+    // leave headroom when picking the budget.
+    public ExternalSort(RecordCodec<T> codec, long memoryBudget, Path temporaryDirectory) {
+        if (codec == null || temporaryDirectory == null) {
+            throw new IllegalArgumentException("Codec and temporary directory cannot be null");
+        }
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + memoryBudget);
+        }
+        this.codec = codec;
+        this.memoryBudget = memoryBudget;
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    // Sorts by natural ordering. As with Arrays.sort(Object[]), the records must implement
+    // Comparable, otherwise this throws ClassCastException.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void sort(Iterator<? extends T> input, Consumer<? super T> output, Sort.Order order) throws IOException {
+        sort(input, output, (Comparator<? super T>) Sort.<Comparable>comparator(order));
+    }
+
+    // Space: O(memoryBudget) heap, O(n) disk
+    // Time : O(n log n) comparisons; spilled records are written and read back once per merge pass
+    @SuppressWarnings("unchecked")
+    public void sort(Iterator<? extends T> input, Consumer<? super T> output, Comparator<? super T> comparator)
+            throws IOException {
+        comparator = SortStats.instrument(comparator);
+        bytesSpilled = 0;
+        runsSpilled = 0;
+
+        // Run files that still exist on disk; entries are nulled out once a run is merged and deleted
+        Path[] runs = new Path[4];
+        int runCount = 0;
+        T[] chunk = (T[]) new Object[DEFAULT_CHUNK_CAPACITY];
+        try {
+            while (true) {
+                // Fill the chunk up to the memory budget (always at least one record)
+                int count = 0;
+                long chunkBytes = 0;
+                while (input.hasNext()) {
+                    T record = input.next();
+                    if (record == null) {
+                        throw new IllegalArgumentException("Records cannot be null");
+                    }
+                    if (count == chunk.length) {
+                        chunk = Arrays.copyOf(chunk, count * 2);
+                    }
+                    chunk[count++] = record;
+                    chunkBytes += LENGTH_PREFIX + codec.encodedSize(record);
+                    if (chunkBytes >= memoryBudget) {
+                        break;
+                    }
+                }
+
+                MergeSort.sort(chunk, count, comparator);
+
+                // Everything fit in a single chunk: nothing to spill or merge
+                if (runCount == 0 && !input.hasNext()) {
+                    for (int i = 0; i < count; i++) {
+                        output.accept(chunk[i]);
+                    }
+                    return;
+                }
+
+                if (count > 0) {
+                    if (runCount == runs.length) {
+                        runs = Arrays.copyOf(runs, runs.length * 2);
+                    }
+                    runs[runCount++] = spill(chunk, count, chunkBytes);
+                }
+                Arrays.fill(chunk, 0, count, null);
+
+                if (!input.hasNext()) {
+                    break;
+                }
+            }
+
+            // Too many runs to keep open at once: merge them in groups into longer runs first
+            while (runCount > MAX_MERGE_FAN_IN) {
+                int mergedCount = 0;
+                for (int first = 0; first < runCount; first += MAX_MERGE_FAN_IN) {
+                    int last = Math.min(first + MAX_MERGE_FAN_IN, runCount);
+                    Path merged = mergeToRun(runs, first, last, comparator);
+                    for (int i = first; i < last; i++) {
+                        Files.delete(runs[i]);
+                        runs[i] = null;
+                    }
+                    runs[mergedCount++] = merged;
+                }
+                runCount = mergedCount;
+            }
+
+            merge(runs, 0, runCount, output::accept, comparator);
+        } finally {
+            for (Path run : runs) {
+                if (run != null) {
+                    Files.deleteIfExists(run);
+                }
+            }
+        }
+    }
+
+    // Total bytes written to run files by the last sort, length prefixes and merge passes included
+    public long bytesSpilled() {
+        return bytesSpilled;
+    }
+
+    // Number of run files written by the last sort, 0 if the input fit in memory
+    public int runsSpilled() {
+        return runsSpilled;
+    }
+
+    // Writes the sorted chunk[0, count) to a new run file
+    private Path spill(T[] chunk, int count, long totalBytes) throws IOException {
+        Path run = Files.createTempFile(temporaryDirectory, "external-sort-", ".run");
+        try (RunWriter<T> writer = newRunWriter(run)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(chunk[i]);
+            }
+        } catch (Throwable e) {
+            deleteAfterFailure(run, e);
+            throw e;
+        }
+        bytesSpilled += totalBytes;
+        runsSpilled++;
+        return run;
+    }
+
+    private Path mergeToRun(Path[] runs, int first, int last, Comparator<? super T> comparator) throws IOException {
+        long totalBytes = 0;
+        for (int i = first; i < last; i++) {
+            totalBytes += Files.size(runs[i]);
+        }
+
+        Path run = Files.createTempFile(temporaryDirectory, "external-sort-", ".run");
+        try (RunWriter<T> writer = newRunWriter(run)) {
+            merge(runs, first, last, writer::write, comparator);
+        } catch (Throwable e) {
+            deleteAfterFailure(run, e);
+            throw e;
+        }
+        bytesSpilled += totalBytes;
+        runsSpilled++;
+        return run;
+    }
+
+    // A run file that failed part way is not in runs yet, so the cleanup in sort would miss it
+    private static void deleteAfterFailure(Path run, Throwable failure) {
+        try {
+            Files.deleteIfExists(run);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    // K-way merge of runs[first, last) into the sink
+    private void merge(Path[] runs, int first, int last, RecordSink<T> sink, Comparator<? super T> comparator)
+            throws IOException {
+        List<RunReader<T>> readers = new ArrayList<>(last - first);
+        try {
+            Heap<RunHead<T>> heads = new Heap<>(Heap.MIN);
+            for (int i = first; i < last; i++) {
+                RunReader<T> reader = new RunReader<>(runs[i], codec);
+                readers.add(reader);
+                heads.insert(new RunHead<>(reader.read(), i - first, comparator));
+            }
+
+            // Repeatedly emit the smallest head and replace it with the next record of its run
+            while (!heads.isEmpty()) {
+                RunHead<T> head = heads.poll();
+                sink.accept(head.record);
+                RunReader<T> reader = readers.get(head.run);
+                if (reader.hasNext()) {
+                    head.record = reader.read();
+                    heads.insert(head);
+                }
+            }
+        } finally {
+            for (RunReader<T> reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private interface RecordSink<T> {
+        void accept(T record) throws IOException;
+    }
+
+    private RunWriter<T> newRunWriter(Path file) throws IOException {
+        if (writeBuffer == null) {
+            writeBuffer = ByteBuffer.allocateDirect(IO_BUFFER_SIZE);
+        }
+        return new RunWriter<>(file, writeBuffer, codec);
+    }
+
+    // The current record of one run inside the merge heap. Ties are broken by run index,
+    // and runs hold consecutive chunks of the input, so the whole sort is stable.
+    private static final class RunHead<T> implements Comparable<RunHead<T>> {
+        private T record;
+        private final int run;
+        private final Comparator<? super T> comparator;
+
+        RunHead(T record, int run, Comparator<? super T> comparator) {
+            this.record = record;
+            this.run = run;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compareTo(RunHead<T> other) {
+            int comparison = comparator.compare(record, other.record);
+            return comparison != 0 ? comparison : Integer.compare(run, other.run);
+        }
+    }
+
+    // Buffers records and writes them out a full buffer at a time
+    private static final class RunWriter<T> implements AutoCloseable {
+        private final FileChannel channel;
+        private final RecordCodec<T> codec;
+        private ByteBuffer buffer;
+
+        // The buffer is cleared first, so it may be reused from an earlier writer
+        RunWriter(Path file, ByteBuffer buffer, RecordCodec<T> codec) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            this.codec = codec;
+            this.buffer = buffer.clear();
+        }
+
+        void write(T record) throws IOException {
+            int size = codec.encodedSize(record);
+            if (buffer.remaining() < LENGTH_PREFIX + size) {
+                flush();
+                if (buffer.capacity() < LENGTH_PREFIX + size) {
+                    buffer = ByteBuffer.allocateDirect(LENGTH_PREFIX + size);
+                }
+            }
+            buffer.putInt(size);
+            int start = buffer.position();
+            codec.encode(record, buffer);
+            if (buffer.position() - start != size) {
+                throw new IllegalStateException("Codec wrote " + (buffer.position() - start)
+                        + " bytes but reported an encoded size of " + size);
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // Reads records back a buffer at a time. Between reads, the buffer's remaining bytes are
+    // the part of the file read but not yet decoded.
+    private static final class RunReader<T> implements AutoCloseable {
+        private final FileChannel channel;
+        private final RecordCodec<T> codec;
+        private final long fileSize;
+        private ByteBuffer buffer;
+
+        RunReader(Path file, RecordCodec<T> codec) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.codec = codec;
+            this.fileSize = channel.size();
+            this.buffer = ByteBuffer.allocateDirect((int) Math.min(fileSize, IO_BUFFER_SIZE)).flip();
+        }
+
+        boolean hasNext() throws IOException {
+            return buffer.hasRemaining() || channel.position() < fileSize;
+        }
+
+        T read() throws IOException {
+            fill(LENGTH_PREFIX);
+            int size = buffer.getInt();
+            fill(size);
+
+            // Hand the codec a view of exactly this record's bytes
+            ByteBuffer view = buffer.slice().limit(size);
+            buffer.position(buffer.position() + size);
+            return codec.decode(view);
+        }
+
+        // Makes sure at least length unread bytes are in the buffer
+        private void fill(int length) throws IOException {
+            if (buffer.remaining() >= length) {
+                return;
+            }
+            buffer.compact();
+            if (buffer.capacity() < length) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(length);
+                larger.put(buffer.flip());
+                buffer = larger;
+            }
+            while (buffer.position() < length) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Run file ends in the middle of a record");
+                }
+            }
+            buffer.flip();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
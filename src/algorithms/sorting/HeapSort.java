@@ -1,32 +1,48 @@
 package algorithms.sorting;
 
+import java.util.Comparator;
+
 public class HeapSort {
     // Space: O(1) in-place
     // Time : O(n log n) worst/average/best.
     public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
+        sort(array, 0, array.length, comparator);
+    }
+
+    // Sorts array[low, high) only. The heap is laid out over that range, so heap index i
+    // lives at array[low + i]. Used by QuickSort.introSort as its worst-case fallback.
+    static <T> void sort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int size = high - low;
+
         // Building a heap (Descending = Max-Heap, Ascending = Min-Heap)
-        for (int i = parentIndex(array.length - 1); i >= 0; i--) {
-            heapifyDown(array, i, array.length, order);
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            heapifyDown(array, low, i, size, comparator);
         }
 
         // Extract sorted data;
-        for (int i = array.length - 1; i >= 1; i--) {
-            Sort.swap(array, 0, i);
-            heapifyDown(array, 0, i, order);
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, low, low + i);
+            heapifyDown(array, low, 0, i, comparator);
         }
     }
 
-    private static <T extends Comparable<T>> void heapifyDown(T[] array, int startIndex, int size, Sort.Order order) {
+    private static <T> void heapifyDown(T[] array, int offset, int startIndex, int size,
+            Comparator<? super T> comparator) {
         while (true) {
             int leftIndex = leftChildIndex(startIndex);
             int rightIndex = rightChildIndex(startIndex);
             int swapIndex = startIndex; // Assume we need no swaps
 
-            if (leftIndex < size && Sort.compare(array[swapIndex], array[leftIndex], order) < 0) {
+            if (leftIndex < size && comparator.compare(array[offset + swapIndex], array[offset + leftIndex]) < 0) {
                 swapIndex = leftIndex;
             }
 
-            if (rightIndex < size && Sort.compare(array[swapIndex], array[rightIndex], order) < 0) {
+            if (rightIndex < size && comparator.compare(array[offset + swapIndex], array[offset + rightIndex]) < 0) {
                 swapIndex = rightIndex;
             }
 
@@ -34,7 +50,7 @@ public class HeapSort {
                 break; // Heap property is maintained
             }
 
-            Sort.swap(array, startIndex, swapIndex);
+            Sort.swap(array, offset + startIndex, offset + swapIndex);
             startIndex = swapIndex;
         }
     }
@@ -52,4 +68,496 @@ public class HeapSort {
     private static int rightChildIndex(int parentIndex) {
         return (parentIndex * 2) + 2;
     }
+
+    // Variants of the same in-place O(1)-space heapsort that do less work per level. They
+    // pay off on large arrays, where the sift-downs dominate and most of the heap is out of cache.
+    public static enum Variant {
+        // The textbook binary heap above: two comparisons per level on the way down
+        BINARY,
+        // Binary heap, but the sift-down first follows the larger child all the way to a leaf
+        // (one comparison per level), then climbs back up to where the element belongs. The
+        // element sifted down is a former leaf and nearly always belongs near the bottom again,
+        // so the climb is short and the total is close to half the comparisons.
+        BOTTOM_UP,
+        // 4-ary heap: half the depth of a binary heap, and the four children of a node are
+        // adjacent in memory, so each level touches one or two cache lines instead of jumping
+        QUATERNARY
+    }
+
+    public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order, Variant variant) {
+        sort(array, Sort.comparator(order), variant);
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, Variant variant) {
+        comparator = SortStats.instrument(comparator);
+        switch (variant) {
+            case BINARY -> sort(array, 0, array.length, comparator);
+            case BOTTOM_UP -> bottomUpSort(array, comparator);
+            case QUATERNARY -> quaternarySort(array, comparator);
+        }
+    }
+
+    private static <T> void bottomUpSort(T[] array, Comparator<? super T> comparator) {
+        int size = array.length;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            siftDownBottomUp(array, i, size, comparator);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownBottomUp(array, 0, i, comparator);
+        }
+    }
+
+    private static <T> void siftDownBottomUp(T[] array, int startIndex, int size, Comparator<? super T> comparator) {
+        // Follow the larger child down to a leaf without comparing against the sifted element
+        int index = startIndex;
+        int childIndex;
+        while ((childIndex = leftChildIndex(index)) < size) {
+            if (childIndex + 1 < size && comparator.compare(array[childIndex], array[childIndex + 1]) < 0) {
+                childIndex++;
+            }
+            index = childIndex;
+        }
+
+        // Climb back up to the first element on that path that is not smaller than it
+        T value = array[startIndex];
+        while (index > startIndex && comparator.compare(value, array[index]) > 0) {
+            index = parentIndex(index);
+        }
+
+        // Place it there and shift every element above it on the path up one level
+        T carried = array[index];
+        array[index] = value;
+        while (index > startIndex) {
+            index = parentIndex(index);
+            T next = array[index];
+            array[index] = carried;
+            carried = next;
+        }
+    }
+
+    private static <T> void quaternarySort(T[] array, Comparator<? super T> comparator) {
+        int size = array.length;
+
+        for (int i = quaternaryParentIndex(size - 1); i >= 0; i--) {
+            siftDownQuaternary(array, i, size, comparator);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownQuaternary(array, 0, i, comparator);
+        }
+    }
+
+    // Moves a hole down instead of swapping: one write per level
+    private static <T> void siftDownQuaternary(T[] array, int startIndex, int size, Comparator<? super T> comparator) {
+        // Nodes past this one have no children (also keeps 4 * index from overflowing)
+        int lastParent = quaternaryParentIndex(size - 1);
+        T value = array[startIndex];
+        int holeIndex = startIndex;
+        while (holeIndex <= lastParent) {
+            int firstChild = 4 * holeIndex + 1;
+            int endChild = Math.min(firstChild + 4, size);
+            int largestChild = firstChild;
+            for (int child = firstChild + 1; child < endChild; child++) {
+                if (comparator.compare(array[largestChild], array[child]) < 0) {
+                    largestChild = child;
+                }
+            }
+
+            if (comparator.compare(value, array[largestChild]) >= 0) {
+                break;
+            }
+
+            array[holeIndex] = array[largestChild];
+            holeIndex = largestChild;
+        }
+        array[holeIndex] = value;
+    }
+
+    // -1 for the root, so the heap-building loops stop there
+    private static int quaternaryParentIndex(int childIndex) {
+        return childIndex <= 0 ? -1 : (childIndex - 1) / 4;
+    }
+
+    public static void sort(int[] array, Sort.Order order) {
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    static void sort(int[] array, int low, int high, boolean descending) {
+        int size = high - low;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            heapifyDown(array, low, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, low, low + i);
+            heapifyDown(array, low, 0, i, descending);
+        }
+    }
+
+    private static void heapifyDown(int[] array, int offset, int startIndex, int size, boolean descending) {
+        while (true) {
+            int leftIndex = leftChildIndex(startIndex);
+            int rightIndex = rightChildIndex(startIndex);
+            int swapIndex = startIndex;
+
+            if (leftIndex < size
+                    && Sort.compare(array[offset + swapIndex], array[offset + leftIndex], descending) < 0) {
+                swapIndex = leftIndex;
+            }
+
+            if (rightIndex < size
+                    && Sort.compare(array[offset + swapIndex], array[offset + rightIndex], descending) < 0) {
+                swapIndex = rightIndex;
+            }
+
+            if (swapIndex == startIndex) {
+                break;
+            }
+
+            Sort.swap(array, offset + startIndex, offset + swapIndex);
+            startIndex = swapIndex;
+        }
+    }
+
+    public static void sort(int[] array, Sort.Order order, Variant variant) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        switch (variant) {
+            case BINARY -> sort(array, 0, array.length, descending);
+            case BOTTOM_UP -> bottomUpSort(array, descending);
+            case QUATERNARY -> quaternarySort(array, descending);
+        }
+    }
+
+    private static void bottomUpSort(int[] array, boolean descending) {
+        int size = array.length;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            siftDownBottomUp(array, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownBottomUp(array, 0, i, descending);
+        }
+    }
+
+    private static void siftDownBottomUp(int[] array, int startIndex, int size, boolean descending) {
+        int index = startIndex;
+        int childIndex;
+        while ((childIndex = leftChildIndex(index)) < size) {
+            if (childIndex + 1 < size && Sort.compare(array[childIndex], array[childIndex + 1], descending) < 0) {
+                childIndex++;
+            }
+            index = childIndex;
+        }
+
+        int value = array[startIndex];
+        while (index > startIndex && Sort.compare(value, array[index], descending) > 0) {
+            index = parentIndex(index);
+        }
+
+        int carried = array[index];
+        array[index] = value;
+        while (index > startIndex) {
+            index = parentIndex(index);
+            int next = array[index];
+            array[index] = carried;
+            carried = next;
+        }
+    }
+
+    private static void quaternarySort(int[] array, boolean descending) {
+        int size = array.length;
+
+        for (int i = quaternaryParentIndex(size - 1); i >= 0; i--) {
+            siftDownQuaternary(array, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownQuaternary(array, 0, i, descending);
+        }
+    }
+
+    private static void siftDownQuaternary(int[] array, int startIndex, int size, boolean descending) {
+        int lastParent = quaternaryParentIndex(size - 1);
+        int value = array[startIndex];
+        int holeIndex = startIndex;
+        while (holeIndex <= lastParent) {
+            int firstChild = 4 * holeIndex + 1;
+            int endChild = Math.min(firstChild + 4, size);
+            int largestChild = firstChild;
+            for (int child = firstChild + 1; child < endChild; child++) {
+                if (Sort.compare(array[largestChild], array[child], descending) < 0) {
+                    largestChild = child;
+                }
+            }
+
+            if (Sort.compare(value, array[largestChild], descending) >= 0) {
+                break;
+            }
+
+            array[holeIndex] = array[largestChild];
+            holeIndex = largestChild;
+        }
+        array[holeIndex] = value;
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    static void sort(long[] array, int low, int high, boolean descending) {
+        int size = high - low;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            heapifyDown(array, low, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, low, low + i);
+            heapifyDown(array, low, 0, i, descending);
+        }
+    }
+
+    private static void heapifyDown(long[] array, int offset, int startIndex, int size, boolean descending) {
+        while (true) {
+            int leftIndex = leftChildIndex(startIndex);
+            int rightIndex = rightChildIndex(startIndex);
+            int swapIndex = startIndex;
+
+            if (leftIndex < size
+                    && Sort.compare(array[offset + swapIndex], array[offset + leftIndex], descending) < 0) {
+                swapIndex = leftIndex;
+            }
+
+            if (rightIndex < size
+                    && Sort.compare(array[offset + swapIndex], array[offset + rightIndex], descending) < 0) {
+                swapIndex = rightIndex;
+            }
+
+            if (swapIndex == startIndex) {
+                break;
+            }
+
+            Sort.swap(array, offset + startIndex, offset + swapIndex);
+            startIndex = swapIndex;
+        }
+    }
+
+    public static void sort(long[] array, Sort.Order order, Variant variant) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        switch (variant) {
+            case BINARY -> sort(array, 0, array.length, descending);
+            case BOTTOM_UP -> bottomUpSort(array, descending);
+            case QUATERNARY -> quaternarySort(array, descending);
+        }
+    }
+
+    private static void bottomUpSort(long[] array, boolean descending) {
+        int size = array.length;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            siftDownBottomUp(array, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownBottomUp(array, 0, i, descending);
+        }
+    }
+
+    private static void siftDownBottomUp(long[] array, int startIndex, int size, boolean descending) {
+        int index = startIndex;
+        int childIndex;
+        while ((childIndex = leftChildIndex(index)) < size) {
+            if (childIndex + 1 < size && Sort.compare(array[childIndex], array[childIndex + 1], descending) < 0) {
+                childIndex++;
+            }
+            index = childIndex;
+        }
+
+        long value = array[startIndex];
+        while (index > startIndex && Sort.compare(value, array[index], descending) > 0) {
+            index = parentIndex(index);
+        }
+
+        long carried = array[index];
+        array[index] = value;
+        while (index > startIndex) {
+            index = parentIndex(index);
+            long next = array[index];
+            array[index] = carried;
+            carried = next;
+        }
+    }
+
+    private static void quaternarySort(long[] array, boolean descending) {
+        int size = array.length;
+
+        for (int i = quaternaryParentIndex(size - 1); i >= 0; i--) {
+            siftDownQuaternary(array, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownQuaternary(array, 0, i, descending);
+        }
+    }
+
+    private static void siftDownQuaternary(long[] array, int startIndex, int size, boolean descending) {
+        int lastParent = quaternaryParentIndex(size - 1);
+        long value = array[startIndex];
+        int holeIndex = startIndex;
+        while (holeIndex <= lastParent) {
+            int firstChild = 4 * holeIndex + 1;
+            int endChild = Math.min(firstChild + 4, size);
+            int largestChild = firstChild;
+            for (int child = firstChild + 1; child < endChild; child++) {
+                if (Sort.compare(array[largestChild], array[child], descending) < 0) {
+                    largestChild = child;
+                }
+            }
+
+            if (Sort.compare(value, array[largestChild], descending) >= 0) {
+                break;
+            }
+
+            array[holeIndex] = array[largestChild];
+            holeIndex = largestChild;
+        }
+        array[holeIndex] = value;
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    static void sort(double[] array, int low, int high, boolean descending) {
+        int size = high - low;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            heapifyDown(array, low, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, low, low + i);
+            heapifyDown(array, low, 0, i, descending);
+        }
+    }
+
+    private static void heapifyDown(double[] array, int offset, int startIndex, int size, boolean descending) {
+        while (true) {
+            int leftIndex = leftChildIndex(startIndex);
+            int rightIndex = rightChildIndex(startIndex);
+            int swapIndex = startIndex;
+
+            if (leftIndex < size
+                    && Sort.compare(array[offset + swapIndex], array[offset + leftIndex], descending) < 0) {
+                swapIndex = leftIndex;
+            }
+
+            if (rightIndex < size
+                    && Sort.compare(array[offset + swapIndex], array[offset + rightIndex], descending) < 0) {
+                swapIndex = rightIndex;
+            }
+
+            if (swapIndex == startIndex) {
+                break;
+            }
+
+            Sort.swap(array, offset + startIndex, offset + swapIndex);
+            startIndex = swapIndex;
+        }
+    }
+
+    public static void sort(double[] array, Sort.Order order, Variant variant) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        switch (variant) {
+            case BINARY -> sort(array, 0, array.length, descending);
+            case BOTTOM_UP -> bottomUpSort(array, descending);
+            case QUATERNARY -> quaternarySort(array, descending);
+        }
+    }
+
+    private static void bottomUpSort(double[] array, boolean descending) {
+        int size = array.length;
+
+        for (int i = parentIndex(size - 1); i >= 0; i--) {
+            siftDownBottomUp(array, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownBottomUp(array, 0, i, descending);
+        }
+    }
+
+    private static void siftDownBottomUp(double[] array, int startIndex, int size, boolean descending) {
+        int index = startIndex;
+        int childIndex;
+        while ((childIndex = leftChildIndex(index)) < size) {
+            if (childIndex + 1 < size && Sort.compare(array[childIndex], array[childIndex + 1], descending) < 0) {
+                childIndex++;
+            }
+            index = childIndex;
+        }
+
+        double value = array[startIndex];
+        while (index > startIndex && Sort.compare(value, array[index], descending) > 0) {
+            index = parentIndex(index);
+        }
+
+        double carried = array[index];
+        array[index] = value;
+        while (index > startIndex) {
+            index = parentIndex(index);
+            double next = array[index];
+            array[index] = carried;
+            carried = next;
+        }
+    }
+
+    private static void quaternarySort(double[] array, boolean descending) {
+        int size = array.length;
+
+        for (int i = quaternaryParentIndex(size - 1); i >= 0; i--) {
+            siftDownQuaternary(array, i, size, descending);
+        }
+
+        for (int i = size - 1; i >= 1; i--) {
+            Sort.swap(array, 0, i);
+            siftDownQuaternary(array, 0, i, descending);
+        }
+    }
+
+    private static void siftDownQuaternary(double[] array, int startIndex, int size, boolean descending) {
+        int lastParent = quaternaryParentIndex(size - 1);
+        double value = array[startIndex];
+        int holeIndex = startIndex;
+        while (holeIndex <= lastParent) {
+            int firstChild = 4 * holeIndex + 1;
+            int endChild = Math.min(firstChild + 4, size);
+            int largestChild = firstChild;
+            for (int child = firstChild + 1; child < endChild; child++) {
+                if (Sort.compare(array[largestChild], array[child], descending) < 0) {
+                    largestChild = child;
+                }
+            }
+
+            if (Sort.compare(value, array[largestChild], descending) >= 0) {
+                break;
+            }
+
+            array[holeIndex] = array[largestChild];
+            holeIndex = largestChild;
+        }
+        array[holeIndex] = value;
+    }
+
 }
@@ -1,15 +1,27 @@
 package algorithms.sorting;
 
+import java.util.Comparator;
+
 public final class InsertionSort {
     // Space: O(1) in-place
     // Time : O(n^2) worst/average, O(n) best case
     public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
-        for (int i = 1; i < array.length; i++) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
+        sort(array, 0, array.length, comparator);
+    }
+
+    // Sorts array[low, high) only
+    static <T> void sort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        for (int i = low + 1; i < high; i++) {
             T current = array[i];
 
             // Find the insertion point by shifting preceding elements that are out of order with `current`.
             int j = i - 1;
-            while (j >= 0 && Sort.isOutOfOrder(array[j], current, order)) {
+            while (j >= low && comparator.compare(array[j], current) > 0) {
                 array[j + 1] = array[j];
                 j--;
             }
@@ -19,4 +31,58 @@ public final class InsertionSort {
             array[j + 1] = current;
         }
     }
+
+    public static void sort(int[] array, Sort.Order order) {
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    static void sort(int[] array, int low, int high, boolean descending) {
+        for (int i = low + 1; i < high; i++) {
+            int current = array[i];
+
+            int j = i - 1;
+            while (j >= low && Sort.isOutOfOrder(array[j], current, descending)) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    static void sort(long[] array, int low, int high, boolean descending) {
+        for (int i = low + 1; i < high; i++) {
+            long current = array[i];
+
+            int j = i - 1;
+            while (j >= low && Sort.isOutOfOrder(array[j], current, descending)) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    static void sort(double[] array, int low, int high, boolean descending) {
+        for (int i = low + 1; i < high; i++) {
+            double current = array[i];
+
+            int j = i - 1;
+            while (j >= low && Sort.isOutOfOrder(array[j], current, descending)) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
 }
@@ -1,75 +1,527 @@
 package algorithms.sorting;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public final class MergeSort {
-    // Space: O(n)
+    // Ranges at or below this size are sorted sequentially by parallelSort
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+    // adaptiveSort extends natural runs shorter than this with binary insertion
+    private static final int MIN_RUN = 32;
+    // Consecutive elements taken from the same run before a merge starts galloping
+    private static final int GALLOP_THRESHOLD = 7;
+
+    // Space: O(n) => a single auxiliary buffer for the whole sort
     // Time: O(n log n) => n for merging and log n for splitting
     public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
         if (array.length <= 1) {
             return;
         }
 
-        T[] sortedArray = mergeSort(array, order);
-        // Copy the contents of the new sorted array back into the original
-        // array to meet the "in-place" contract of the void sort method.
-        System.arraycopy(sortedArray, 0, array, 0, array.length);
+        // The buffer starts as a copy of the array so both hold the same elements,
+        // which is what mergeSort expects before it starts swapping their roles.
+        T[] buffer = array.clone();
+        SortStats.onAllocation(buffer.length, SortStats.REFERENCE_BYTES);
+        mergeSort(buffer, array, 0, array.length, comparator);
     }
 
-    private static <T extends Comparable<T>> T[] mergeSort(T[] array, Sort.Order order) {
-        // Base Case: An array with 0 or 1 elements is already sorted.
-        if (array.length <= 1) {
-            return array;
+    // Sorts array[0, length) only, used by ExternalSort to sort the filled part of its chunk
+    // in place. The buffer covers just that prefix.
+    static <T> void sort(T[] array, int length, Comparator<? super T> comparator) {
+        if (length <= 1) {
+            return;
+        }
+
+        T[] buffer = Arrays.copyOf(array, length);
+        SortStats.onAllocation(buffer.length, SortStats.REFERENCE_BYTES);
+        mergeSort(buffer, array, 0, length, comparator);
+    }
+
+    // Space: O(n) => same single auxiliary buffer as sort, shared by all tasks
+    // Time: O(n log n) work, split across the common ForkJoinPool
+    public static <T extends Comparable<T>> void parallelSort(T[] array, Sort.Order order) {
+        parallelSort(array, Sort.comparator(order));
+    }
+
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comparator) {
+        parallelSort(array, comparator, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public static <T extends Comparable<T>> void parallelSort(T[] array, Sort.Order order, int threshold) {
+        parallelSort(array, Sort.comparator(order), threshold);
+    }
+
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comparator, int threshold) {
+        comparator = SortStats.instrument(comparator);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        if (array.length <= threshold) {
+            sort(array, comparator);
+            return;
         }
 
-        // Split the array into two halves.
-        int mid = array.length / 2;
-        T[] leftArray = Arrays.copyOfRange(array, 0, mid);
-        T[] rightArray = Arrays.copyOfRange(array, mid, array.length);
+        T[] buffer = array.clone();
+        SortStats.onAllocation(buffer.length, SortStats.REFERENCE_BYTES);
+        ForkJoinPool.commonPool().invoke(new MergeTask<>(buffer, array, 0, array.length, comparator, threshold));
+    }
+
+    // Natural merge sort: instead of splitting at the middle, it merges the runs the input
+    // already has. Each run is found by scanning forward: a non-descending run is kept, a
+    // strictly descending one is reversed in place (strictly, so equal elements keep their
+    // order). Runs shorter than MIN_RUN are extended with binary insertion sort. Runs are
+    // merged in the order chosen by powersort (Munro and Wild, 2018): each boundary between
+    // two neighbouring runs gets a "power", its depth in a perfectly balanced merge tree over
+    // the whole array, and a boundary is merged as soon as the next one is shallower. Merges
+    // gallop once one run keeps winning. Stable.
+    // Space: O(n) worst, none when the input is a single run
+    // Time : O(n log n) worst, O(n log r) for r runs, O(n) for sorted or reversed input
+    public static <T extends Comparable<T>> void adaptiveSort(T[] array, Sort.Order order) {
+        adaptiveSort(array, Sort.comparator(order));
+    }
 
-        // Recursively sort both halves.
-        T[] sortedLeft = mergeSort(leftArray, order);
-        T[] sortedRight = mergeSort(rightArray, order);
+    public static <T> void adaptiveSort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
+        if (array.length <= 1) {
+            return;
+        }
+        new RunMerger<>(array, comparator).sort();
+    }
+
+    // Sorts source[low, high) into destination[low, high). Both arrays must hold the same
+    // elements in that range on entry. Each half is sorted with the roles of the arrays
+    // swapped, so every level merges from one array straight into the other without copying.
+    private static <T> void mergeSort(T[] source, T[] destination, int low, int high,
+            Comparator<? super T> comparator) {
+        // Base Case: A range with 0 or 1 elements is already sorted (and already in destination).
+        if (high - low <= 1) {
+            return;
+        }
 
-        // Merge the sorted halves and return the result.
-        return merge(sortedLeft, sortedRight, order);
+        SortStats.onEnterRecursion();
+        int mid = (low + high) >>> 1;
+        mergeSort(destination, source, low, mid, comparator);
+        mergeSort(destination, source, mid, high, comparator);
+        merge(source, destination, low, mid, high, comparator);
+        SortStats.onExitRecursion();
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T extends Comparable<T>> T[] merge(T[] leftArray, T[] rightArray, Sort.Order order) {
-        T[] mergedArray = (T[]) new Comparable[leftArray.length + rightArray.length];
+    // Merges the sorted runs source[low, mid) and source[mid, high) into destination[low, high).
+    private static <T> void merge(T[] source, T[] destination, int low, int mid, int high,
+            Comparator<? super T> comparator) {
+        // The runs are already in order relative to each other, so there is nothing to interleave.
+        if (comparator.compare(source[mid - 1], source[mid]) <= 0) {
+            System.arraycopy(source, low, destination, low, high - low);
+            return;
+        }
 
-        int leftIndex = 0;
-        int rightIndex = 0;
-        int mergedIndex = 0;
+        int leftIndex = low;
+        int rightIndex = mid;
+        int mergedIndex = low;
 
-        // Compare elements from both arrays until one array is exhausted.
-        while (leftIndex < leftArray.length && rightIndex < rightArray.length) {
+        // Compare elements from both runs until one run is exhausted.
+        while (leftIndex < mid && rightIndex < high) {
             // The condition "<= 0" means "if the left element comes before or is equal to the right one".
-            if (Sort.compare(leftArray[leftIndex], rightArray[rightIndex], order) <= 0) {
-                mergedArray[mergedIndex] = leftArray[leftIndex];
+            if (comparator.compare(source[leftIndex], source[rightIndex]) <= 0) {
+                destination[mergedIndex] = source[leftIndex];
                 leftIndex++;
             } else {
-                mergedArray[mergedIndex] = rightArray[rightIndex];
+                destination[mergedIndex] = source[rightIndex];
                 rightIndex++;
             }
             mergedIndex++;
         }
 
-        // Copy any remaining elements from the left array.
-        while (leftIndex < leftArray.length) {
-            mergedArray[mergedIndex] = leftArray[leftIndex];
+        // Copy any remaining elements from whichever run is left.
+        System.arraycopy(source, leftIndex, destination, mergedIndex, mid - leftIndex);
+        System.arraycopy(source, rightIndex, destination, mergedIndex, high - rightIndex);
+    }
+
+    // Unlike the object sort, ranges of up to SortingNetwork.MAX_SIZE elements are finished
+    // with a sorting network instead of being split down to single elements
+    public static void sort(int[] array, Sort.Order order) {
+        if (array.length <= 1) {
+            return;
+        }
+
+        int[] buffer = array.clone();
+        SortStats.onAllocation(buffer.length, Integer.BYTES);
+        mergeSort(buffer, array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    private static void mergeSort(int[] source, int[] destination, int low, int high, boolean descending) {
+        // Both arrays hold the same elements here, so sorting destination in place is enough
+        if (high - low <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(destination, low, high, descending);
+            return;
+        }
+
+        SortStats.onEnterRecursion();
+        int mid = (low + high) >>> 1;
+        mergeSort(destination, source, low, mid, descending);
+        mergeSort(destination, source, mid, high, descending);
+        merge(source, destination, low, mid, high, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static void merge(int[] source, int[] destination, int low, int mid, int high, boolean descending) {
+        if (Sort.compare(source[mid - 1], source[mid], descending) <= 0) {
+            System.arraycopy(source, low, destination, low, high - low);
+            return;
+        }
+
+        int leftIndex = low;
+        int rightIndex = mid;
+        int mergedIndex = low;
+
+        while (leftIndex < mid && rightIndex < high) {
+            if (Sort.compare(source[leftIndex], source[rightIndex], descending) <= 0) {
+                destination[mergedIndex] = source[leftIndex];
+                leftIndex++;
+            } else {
+                destination[mergedIndex] = source[rightIndex];
+                rightIndex++;
+            }
             mergedIndex++;
-            leftIndex++;
         }
 
-        // Copy any remaining elements from the right array.
-        while (rightIndex < rightArray.length) {
-            mergedArray[mergedIndex] = rightArray[rightIndex];
+        System.arraycopy(source, leftIndex, destination, mergedIndex, mid - leftIndex);
+        System.arraycopy(source, rightIndex, destination, mergedIndex, high - rightIndex);
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        if (array.length <= 1) {
+            return;
+        }
+
+        long[] buffer = array.clone();
+        SortStats.onAllocation(buffer.length, Long.BYTES);
+        mergeSort(buffer, array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    private static void mergeSort(long[] source, long[] destination, int low, int high, boolean descending) {
+        if (high - low <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(destination, low, high, descending);
+            return;
+        }
+
+        SortStats.onEnterRecursion();
+        int mid = (low + high) >>> 1;
+        mergeSort(destination, source, low, mid, descending);
+        mergeSort(destination, source, mid, high, descending);
+        merge(source, destination, low, mid, high, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static void merge(long[] source, long[] destination, int low, int mid, int high, boolean descending) {
+        if (Sort.compare(source[mid - 1], source[mid], descending) <= 0) {
+            System.arraycopy(source, low, destination, low, high - low);
+            return;
+        }
+
+        int leftIndex = low;
+        int rightIndex = mid;
+        int mergedIndex = low;
+
+        while (leftIndex < mid && rightIndex < high) {
+            if (Sort.compare(source[leftIndex], source[rightIndex], descending) <= 0) {
+                destination[mergedIndex] = source[leftIndex];
+                leftIndex++;
+            } else {
+                destination[mergedIndex] = source[rightIndex];
+                rightIndex++;
+            }
             mergedIndex++;
-            rightIndex++;
         }
 
-        return mergedArray;
+        System.arraycopy(source, leftIndex, destination, mergedIndex, mid - leftIndex);
+        System.arraycopy(source, rightIndex, destination, mergedIndex, high - rightIndex);
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        if (array.length <= 1) {
+            return;
+        }
+
+        double[] buffer = array.clone();
+        SortStats.onAllocation(buffer.length, Double.BYTES);
+        mergeSort(buffer, array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    private static void mergeSort(double[] source, double[] destination, int low, int high, boolean descending) {
+        if (high - low <= SortingNetwork.MAX_SIZE) {
+            SortingNetwork.sort(destination, low, high, descending);
+            return;
+        }
+
+        SortStats.onEnterRecursion();
+        int mid = (low + high) >>> 1;
+        mergeSort(destination, source, low, mid, descending);
+        mergeSort(destination, source, mid, high, descending);
+        merge(source, destination, low, mid, high, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static void merge(double[] source, double[] destination, int low, int mid, int high, boolean descending) {
+        if (Sort.compare(source[mid - 1], source[mid], descending) <= 0) {
+            System.arraycopy(source, low, destination, low, high - low);
+            return;
+        }
+
+        int leftIndex = low;
+        int rightIndex = mid;
+        int mergedIndex = low;
+
+        while (leftIndex < mid && rightIndex < high) {
+            if (Sort.compare(source[leftIndex], source[rightIndex], descending) <= 0) {
+                destination[mergedIndex] = source[leftIndex];
+                leftIndex++;
+            } else {
+                destination[mergedIndex] = source[rightIndex];
+                rightIndex++;
+            }
+            mergedIndex++;
+        }
+
+        System.arraycopy(source, leftIndex, destination, mergedIndex, mid - leftIndex);
+        System.arraycopy(source, rightIndex, destination, mergedIndex, high - rightIndex);
+    }
+
+    // Same recursion as mergeSort, but both halves of a large range are sorted concurrently.
+    // Serializable only through ForkJoinTask; tasks are never serialized.
+    @SuppressWarnings("serial")
+    private static final class MergeTask<T> extends RecursiveAction {
+        private final T[] source;
+        private final T[] destination;
+        private final int low;
+        private final int high;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        MergeTask(T[] source, T[] destination, int low, int high, Comparator<? super T> comparator, int threshold) {
+            this.source = source;
+            this.destination = destination;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= threshold) {
+                mergeSort(source, destination, low, high, comparator);
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            invokeAll(
+                    new MergeTask<>(destination, source, low, mid, comparator, threshold),
+                    new MergeTask<>(destination, source, mid, high, comparator, threshold));
+            merge(source, destination, low, mid, high, comparator);
+        }
+    }
+
+    // State of one adaptiveSort call: the array, the merge buffer (grown on demand and reused
+    // by every merge) and the stack of runs waiting to be merged.
+    private static final class RunMerger<T> {
+        // Powers on the stack strictly increase and lie in [1, 31], so it never holds more
+        private static final int MAX_PENDING_RUNS = Integer.SIZE;
+
+        private final T[] array;
+        private final Comparator<? super T> comparator;
+        private T[] buffer;
+        // Pending run i starts at runStart[i] and ends where run i + 1 starts; runPower[i] is
+        // the power of the boundary at its end
+        private final int[] runStart = new int[MAX_PENDING_RUNS];
+        private final int[] runPower = new int[MAX_PENDING_RUNS];
+
+        RunMerger(T[] array, Comparator<? super T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        void sort() {
+            int length = array.length;
+            int pending = 0;
+            // The current run [start, end) is not on the stack yet
+            int start = 0;
+            int end = nextRun(0);
+            while (end < length) {
+                int nextEnd = nextRun(end);
+                int power = power(start, end, nextEnd);
+                // Every pending boundary deeper than the new one is merged first
+                while (pending > 0 && runPower[pending - 1] > power) {
+                    pending--;
+                    merge(runStart[pending], start, end);
+                    start = runStart[pending];
+                }
+                runStart[pending] = start;
+                runPower[pending] = power;
+                pending++;
+                start = end;
+                end = nextEnd;
+            }
+            while (pending > 0) {
+                pending--;
+                merge(runStart[pending], start, length);
+                start = runStart[pending];
+            }
+        }
+
+        // Finds the run starting at low, puts it in order and extends it to MIN_RUN elements
+        // (or the end of the array). Returns where it ends.
+        private int nextRun(int low) {
+            int high = low + 1;
+            if (high == array.length) {
+                return high;
+            }
+            if (comparator.compare(array[high], array[low]) < 0) {
+                while (high < array.length && comparator.compare(array[high], array[high - 1]) < 0) {
+                    high++;
+                }
+                for (int left = low, right = high - 1; left < right; left++, right--) {
+                    Sort.swap(array, left, right);
+                }
+            } else {
+                while (high < array.length && comparator.compare(array[high], array[high - 1]) >= 0) {
+                    high++;
+                }
+            }
+
+            int minimumEnd = Math.min(array.length, low + MIN_RUN);
+            if (high < minimumEnd) {
+                binaryInsertionSort(low, high, minimumEnd);
+                high = minimumEnd;
+            }
+            return high;
+        }
+
+        // Inserts array[sortedEnd, high) one by one into the sorted array[low, sortedEnd), each
+        // after any equal elements already there
+        private void binaryInsertionSort(int low, int sortedEnd, int high) {
+            for (int i = sortedEnd; i < high; i++) {
+                T element = array[i];
+                int position = binarySearch(element, array, low, i, true);
+                System.arraycopy(array, position, array, position + 1, i - position);
+                array[position] = element;
+            }
+        }
+
+        // Power of the boundary between the runs [start, mid) and [mid, end): the first bit
+        // where the binary fractions (position / length) of the two runs' midpoints differ.
+        // Both midpoints are kept doubled, as start + mid and mid + end, and scaled to 31-bit
+        // fractions of 2 * length.
+        private int power(int start, int mid, int end) {
+            long length = array.length;
+            long left = ((long) start + mid << 30) / length;
+            long right = ((long) mid + end << 30) / length;
+            return Long.numberOfLeadingZeros(left ^ right) - 32;
+        }
+
+        // Merges the sorted runs array[low, mid) and array[mid, high). Elements of the left run
+        // that are not greater than the first of the right run are already in place, and so
+        // are elements of the right run not less than the last of the left one; only the rest
+        // is merged, forward, with the left part moved to the buffer.
+        private void merge(int low, int mid, int high) {
+            low = upperBound(array[mid], array, low, mid);
+            if (low == mid) {
+                return;
+            }
+            high = lowerBound(array[mid - 1], array, mid, high);
+
+            int leftLength = mid - low;
+            if (buffer == null || buffer.length < leftLength) {
+                // Half the array covers almost every merge, so it usually takes one allocation
+                int capacity = Math.max(leftLength, array.length >>> 1);
+                buffer = Arrays.copyOf(array, capacity);
+                SortStats.onAllocation(capacity, SortStats.REFERENCE_BYTES);
+            }
+            System.arraycopy(array, low, buffer, 0, leftLength);
+
+            int leftIndex = 0;
+            int rightIndex = mid;
+            int mergedIndex = low;
+            int leftWins = 0;
+            int rightWins = 0;
+            while (leftIndex < leftLength && rightIndex < high) {
+                // Ties go to the left run, which keeps the merge stable
+                if (comparator.compare(array[rightIndex], buffer[leftIndex]) < 0) {
+                    array[mergedIndex++] = array[rightIndex++];
+                    leftWins = 0;
+                    if (++rightWins >= GALLOP_THRESHOLD && rightIndex < high) {
+                        // Everything in the right run less than the next left element goes at once
+                        int runEnd = lowerBound(buffer[leftIndex], array, rightIndex, high);
+                        System.arraycopy(array, rightIndex, array, mergedIndex, runEnd - rightIndex);
+                        mergedIndex += runEnd - rightIndex;
+                        rightIndex = runEnd;
+                        rightWins = 0;
+                    }
+                } else {
+                    array[mergedIndex++] = buffer[leftIndex++];
+                    rightWins = 0;
+                    if (++leftWins >= GALLOP_THRESHOLD && leftIndex < leftLength) {
+                        // Likewise the left elements not greater than the next right element
+                        int runEnd = upperBound(array[rightIndex], buffer, leftIndex, leftLength);
+                        System.arraycopy(buffer, leftIndex, array, mergedIndex, runEnd - leftIndex);
+                        mergedIndex += runEnd - leftIndex;
+                        leftIndex = runEnd;
+                        leftWins = 0;
+                    }
+                }
+            }
+            // What is left of the right run is already in place
+            System.arraycopy(buffer, leftIndex, array, mergedIndex, leftLength - leftIndex);
+        }
+
+        // First index in the sorted range[from, to) whose element is not less than key
+        private int lowerBound(T key, T[] range, int from, int to) {
+            return gallop(key, range, from, to, false);
+        }
+
+        // First index in the sorted range[from, to) whose element is greater than key
+        private int upperBound(T key, T[] range, int from, int to) {
+            return gallop(key, range, from, to, true);
+        }
+
+        // Exponential search from the start of the range, probing from, from + 1, from + 3,
+        // from + 7, ..., then a binary search between the last two probes. Costs O(log d)
+        // comparisons for an answer d elements in, which is what makes galloping pay off.
+        private int gallop(T key, T[] range, int from, int to, boolean afterEqual) {
+            int low = from;
+            int offset = 0;
+            int length = to - from;
+            while (offset < length && precedes(range[from + offset], key, afterEqual)) {
+                low = from + offset + 1;
+                offset = offset < length >>> 1 ? (offset << 1) + 1 : length;
+            }
+            return binarySearch(key, range, low, from + Math.min(offset, length), afterEqual);
+        }
+
+        // First index in the sorted range[low, high) whose element is greater than key, or not
+        // less than key when afterEqual is false
+        private int binarySearch(T key, T[] range, int low, int high, boolean afterEqual) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (precedes(range[mid], key, afterEqual)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private boolean precedes(T element, T key, boolean orEqual) {
+            int comparison = comparator.compare(element, key);
+            return comparison < 0 || (orEqual && comparison == 0);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,181 @@
 package algorithms.sorting;
 
+import java.util.Comparator;
+
 public final class QuickSort {
-    // Space: O(log n) average, O(n) worst (recursion stack depth)
-    // Time : O(n log n) average/best case, O(n^2) worst
+    // Ranges at or below this size are finished with a sorting network instead of partitioning further
+    private static final int SMALL_RANGE_THRESHOLD = SortingNetwork.MAX_SIZE;
+    // Ranges above this size pick the pivot with Tukey's ninther instead of median-of-three
+    private static final int NINTHER_THRESHOLD = 40;
+
+    // Same as introSort: sampled pivots, recursion into the smaller side and the heap sort
+    // fallback keep sorted and adversarial input from going quadratic or overflowing the stack
+    // Space: O(log n)
+    // Time : O(n log n) worst/average
     public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
-        quickSort(array, 0, array.length - 1, order);
+        introSort(array, order);
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        introSort(array, comparator);
+    }
+
+    // Space: O(log n) (recursion only goes into the smaller partition)
+    // Time : O(n log n) worst/average, falls back to heap sort once recursion gets too deep
+    public static <T extends Comparable<T>> void introSort(T[] array, Sort.Order order) {
+        introSort(array, Sort.comparator(order));
     }
 
-    private static <T extends Comparable<T>> void quickSort(T[] array, int low, int high, Sort.Order order) {
-        if (low >= high) {
+    public static <T> void introSort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
+        if (array.length <= 1) {
             return;
         }
+        introSort(array, 0, array.length - 1, depthLimit(array.length), comparator);
+    }
+
+    // Sorts array[low, high) only, used by SampleSort to sort its buckets
+    static <T> void introSort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        if (high - low <= 1) {
+            return;
+        }
+        introSort(array, low, high - 1, depthLimit(high - low), comparator);
+    }
 
-        int partitionIndex = partition(array, low, high, order);
-        quickSort(array, low, partitionIndex, order);
-        quickSort(array, partitionIndex + 1, high, order);
+    // Moves the element that belongs at index k in sorted order to array[k] and returns it.
+    // Everything before k ends up not after it, and everything after k not before it.
+    // Space: O(1)
+    // Time : O(n) average, O(n log n) worst (heap sorts the remaining range once it gets too deep)
+    public static <T extends Comparable<T>> T select(T[] array, int k, Sort.Order order) {
+        return select(array, k, Sort.comparator(order));
     }
 
-    // Hoare partition with pivot being the first element
-    private static <T extends Comparable<T>> int partition(T[] arr, int low, int high, Sort.Order order) {
+    public static <T> T select(T[] array, int k, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("Index out of bounds: " + k);
+        }
+        select(array, 0, array.length - 1, k, depthLimit(array.length), comparator);
+        return array[k];
+    }
+
+    // Sorts only the first k elements: afterwards array[0, k) holds the k first elements of
+    // the sorted order, in order, and the rest of the array is left in no particular order.
+    // Space: O(log k)
+    // Time : O(n + k log k) average
+    public static <T extends Comparable<T>> void partialSort(T[] array, int k, Sort.Order order) {
+        partialSort(array, k, Sort.comparator(order));
+    }
+
+    public static <T> void partialSort(T[] array, int k, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
+        if (k < 0 || k > array.length) {
+            throw new IllegalArgumentException("Count out of bounds: " + k);
+        }
+        if (k <= 1) {
+            // Selecting the first element is all the sorting one element needs
+            if (k == 1) {
+                select(array, 0, comparator);
+            }
+            return;
+        }
+
+        // Bring the k first elements to the front, then sort just that prefix
+        if (k < array.length) {
+            select(array, 0, array.length - 1, k - 1, depthLimit(array.length), comparator);
+        }
+        introSort(array, 0, k - 1, depthLimit(k), comparator);
+    }
+
+    private static <T> void introSort(T[] array, int low, int high, int depthLimit, Comparator<? super T> comparator) {
+        SortStats.onEnterRecursion();
+        while (high - low + 1 > SMALL_RANGE_THRESHOLD) {
+            // Too many bad pivots in a row, the input is adversarial for quicksort
+            if (depthLimit == 0) {
+                HeapSort.sort(array, low, high + 1, comparator);
+                SortStats.onExitRecursion();
+                return;
+            }
+            depthLimit--;
+
+            Sort.swap(array, low, choosePivot(array, low, high, comparator));
+            int partitionIndex = partition(array, low, high, comparator);
+
+            // Recurse into the smaller side and loop on the larger one to keep the stack O(log n)
+            if (partitionIndex - low < high - partitionIndex) {
+                introSort(array, low, partitionIndex, depthLimit, comparator);
+                low = partitionIndex + 1;
+            } else {
+                introSort(array, partitionIndex + 1, high, depthLimit, comparator);
+                high = partitionIndex;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high + 1, comparator);
+        SortStats.onExitRecursion();
+    }
+
+    // Introselect: partitions like introSort but only keeps the side that contains k
+    private static <T> void select(T[] array, int low, int high, int k, int depthLimit,
+            Comparator<? super T> comparator) {
+        while (high - low + 1 > SMALL_RANGE_THRESHOLD) {
+            if (depthLimit == 0) {
+                HeapSort.sort(array, low, high + 1, comparator);
+                return;
+            }
+            depthLimit--;
+
+            Sort.swap(array, low, choosePivot(array, low, high, comparator));
+            int partitionIndex = partition(array, low, high, comparator);
+
+            // Hoare partition leaves array[low, partitionIndex] <= array[partitionIndex + 1, high]
+            if (k <= partitionIndex) {
+                high = partitionIndex;
+            } else {
+                low = partitionIndex + 1;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high + 1, comparator);
+    }
+
+    // Bad pivots allowed before introSort and select give up on partitioning: 2 * log2(n)
+    private static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    // Returns the index of a pivot candidate from a sample of the range, so that
+    // sorted and reverse-sorted input split evenly instead of degrading to O(n^2)
+    private static <T> int choosePivot(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int mid = (low + high) >>> 1;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, comparator);
+        }
+
+        // Tukey's ninther: the median of three medians-of-three spread across the range
+        int step = (high - low + 1) / 8;
+        int first = medianOfThree(array, low, low + step, low + 2 * step, comparator);
+        int middle = medianOfThree(array, mid - step, mid, mid + step, comparator);
+        int last = medianOfThree(array, high - 2 * step, high - step, high, comparator);
+        return medianOfThree(array, first, middle, last, comparator);
+    }
+
+    private static <T> int medianOfThree(T[] array, int a, int b, int c, Comparator<? super T> comparator) {
+        if (comparator.compare(array[a], array[b]) < 0) {
+            if (comparator.compare(array[b], array[c]) < 0) {
+                return b;
+            }
+            return comparator.compare(array[a], array[c]) < 0 ? c : a;
+        }
+        if (comparator.compare(array[a], array[c]) < 0) {
+            return a;
+        }
+        return comparator.compare(array[b], array[c]) < 0 ? c : b;
+    }
+
+    // Hoare partition with pivot being the first element, where introSort and select have
+    // swapped the chosen pivot
+    private static <T> int partition(T[] arr, int low, int high, Comparator<? super T> comparator) {
         // Choose the first element as pivot
         T pivot = arr[low];
         int i = low - 1;  // Left pointer
@@ -28,12 +185,12 @@ public final class QuickSort {
             // Move i forward until we find an element >= pivot
             do {
                 i++;
-            } while (Sort.compare(arr[i], pivot, order) < 0);
+            } while (comparator.compare(arr[i], pivot) < 0);
 
             // Move j backward until we find an element <= pivot
             do {
                 j--;
-            } while (Sort.compare(arr[j], pivot,order) > 0);
+            } while (comparator.compare(arr[j], pivot) > 0);
 
             // If pointers cross, return the partition point
             if (i >= j) {
@@ -44,4 +201,247 @@ public final class QuickSort {
             Sort.swap(arr, i, j);
         }
     }
+
+    public static void sort(int[] array, Sort.Order order) {
+        if (array.length <= 1) {
+            return;
+        }
+        introSort(array, 0, array.length - 1, depthLimit(array.length), order == Sort.Order.DESCENDING);
+    }
+
+    private static void introSort(int[] array, int low, int high, int depthLimit, boolean descending) {
+        SortStats.onEnterRecursion();
+        while (high - low + 1 > SMALL_RANGE_THRESHOLD) {
+            if (depthLimit == 0) {
+                HeapSort.sort(array, low, high + 1, descending);
+                SortStats.onExitRecursion();
+                return;
+            }
+            depthLimit--;
+
+            Sort.swap(array, low, choosePivot(array, low, high, descending));
+            int partitionIndex = partition(array, low, high, descending);
+
+            if (partitionIndex - low < high - partitionIndex) {
+                introSort(array, low, partitionIndex, depthLimit, descending);
+                low = partitionIndex + 1;
+            } else {
+                introSort(array, partitionIndex + 1, high, depthLimit, descending);
+                high = partitionIndex;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high + 1, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static int choosePivot(int[] array, int low, int high, boolean descending) {
+        int mid = (low + high) >>> 1;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, descending);
+        }
+
+        int step = (high - low + 1) / 8;
+        int first = medianOfThree(array, low, low + step, low + 2 * step, descending);
+        int middle = medianOfThree(array, mid - step, mid, mid + step, descending);
+        int last = medianOfThree(array, high - 2 * step, high - step, high, descending);
+        return medianOfThree(array, first, middle, last, descending);
+    }
+
+    private static int medianOfThree(int[] array, int a, int b, int c, boolean descending) {
+        if (Sort.compare(array[a], array[b], descending) < 0) {
+            if (Sort.compare(array[b], array[c], descending) < 0) {
+                return b;
+            }
+            return Sort.compare(array[a], array[c], descending) < 0 ? c : a;
+        }
+        if (Sort.compare(array[a], array[c], descending) < 0) {
+            return a;
+        }
+        return Sort.compare(array[b], array[c], descending) < 0 ? c : b;
+    }
+
+    private static int partition(int[] arr, int low, int high, boolean descending) {
+        int pivot = arr[low];
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (Sort.compare(arr[i], pivot, descending) < 0);
+
+            do {
+                j--;
+            } while (Sort.compare(arr[j], pivot, descending) > 0);
+
+            if (i >= j) {
+                return j;
+            }
+
+            Sort.swap(arr, i, j);
+        }
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        if (array.length <= 1) {
+            return;
+        }
+        introSort(array, 0, array.length - 1, depthLimit(array.length), order == Sort.Order.DESCENDING);
+    }
+
+    private static void introSort(long[] array, int low, int high, int depthLimit, boolean descending) {
+        SortStats.onEnterRecursion();
+        while (high - low + 1 > SMALL_RANGE_THRESHOLD) {
+            if (depthLimit == 0) {
+                HeapSort.sort(array, low, high + 1, descending);
+                SortStats.onExitRecursion();
+                return;
+            }
+            depthLimit--;
+
+            Sort.swap(array, low, choosePivot(array, low, high, descending));
+            int partitionIndex = partition(array, low, high, descending);
+
+            if (partitionIndex - low < high - partitionIndex) {
+                introSort(array, low, partitionIndex, depthLimit, descending);
+                low = partitionIndex + 1;
+            } else {
+                introSort(array, partitionIndex + 1, high, depthLimit, descending);
+                high = partitionIndex;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high + 1, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static int choosePivot(long[] array, int low, int high, boolean descending) {
+        int mid = (low + high) >>> 1;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, descending);
+        }
+
+        int step = (high - low + 1) / 8;
+        int first = medianOfThree(array, low, low + step, low + 2 * step, descending);
+        int middle = medianOfThree(array, mid - step, mid, mid + step, descending);
+        int last = medianOfThree(array, high - 2 * step, high - step, high, descending);
+        return medianOfThree(array, first, middle, last, descending);
+    }
+
+    private static int medianOfThree(long[] array, int a, int b, int c, boolean descending) {
+        if (Sort.compare(array[a], array[b], descending) < 0) {
+            if (Sort.compare(array[b], array[c], descending) < 0) {
+                return b;
+            }
+            return Sort.compare(array[a], array[c], descending) < 0 ? c : a;
+        }
+        if (Sort.compare(array[a], array[c], descending) < 0) {
+            return a;
+        }
+        return Sort.compare(array[b], array[c], descending) < 0 ? c : b;
+    }
+
+    private static int partition(long[] arr, int low, int high, boolean descending) {
+        long pivot = arr[low];
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (Sort.compare(arr[i], pivot, descending) < 0);
+
+            do {
+                j--;
+            } while (Sort.compare(arr[j], pivot, descending) > 0);
+
+            if (i >= j) {
+                return j;
+            }
+
+            Sort.swap(arr, i, j);
+        }
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        if (array.length <= 1) {
+            return;
+        }
+        introSort(array, 0, array.length - 1, depthLimit(array.length), order == Sort.Order.DESCENDING);
+    }
+
+    private static void introSort(double[] array, int low, int high, int depthLimit, boolean descending) {
+        SortStats.onEnterRecursion();
+        while (high - low + 1 > SMALL_RANGE_THRESHOLD) {
+            if (depthLimit == 0) {
+                HeapSort.sort(array, low, high + 1, descending);
+                SortStats.onExitRecursion();
+                return;
+            }
+            depthLimit--;
+
+            Sort.swap(array, low, choosePivot(array, low, high, descending));
+            int partitionIndex = partition(array, low, high, descending);
+
+            if (partitionIndex - low < high - partitionIndex) {
+                introSort(array, low, partitionIndex, depthLimit, descending);
+                low = partitionIndex + 1;
+            } else {
+                introSort(array, partitionIndex + 1, high, depthLimit, descending);
+                high = partitionIndex;
+            }
+        }
+
+        SortingNetwork.sort(array, low, high + 1, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static int choosePivot(double[] array, int low, int high, boolean descending) {
+        int mid = (low + high) >>> 1;
+        if (high - low + 1 <= NINTHER_THRESHOLD) {
+            return medianOfThree(array, low, mid, high, descending);
+        }
+
+        int step = (high - low + 1) / 8;
+        int first = medianOfThree(array, low, low + step, low + 2 * step, descending);
+        int middle = medianOfThree(array, mid - step, mid, mid + step, descending);
+        int last = medianOfThree(array, high - 2 * step, high - step, high, descending);
+        return medianOfThree(array, first, middle, last, descending);
+    }
+
+    private static int medianOfThree(double[] array, int a, int b, int c, boolean descending) {
+        if (Sort.compare(array[a], array[b], descending) < 0) {
+            if (Sort.compare(array[b], array[c], descending) < 0) {
+                return b;
+            }
+            return Sort.compare(array[a], array[c], descending) < 0 ? c : a;
+        }
+        if (Sort.compare(array[a], array[c], descending) < 0) {
+            return a;
+        }
+        return Sort.compare(array[b], array[c], descending) < 0 ? c : b;
+    }
+
+    private static int partition(double[] arr, int low, int high, boolean descending) {
+        double pivot = arr[low];
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (Sort.compare(arr[i], pivot, descending) < 0);
+
+            do {
+                j--;
+            } while (Sort.compare(arr[j], pivot, descending) > 0);
+
+            if (i >= j) {
+                return j;
+            }
+
+            Sort.swap(arr, i, j);
+        }
+    }
 }
@@ -0,0 +1,181 @@
+package algorithms.sorting;
+
+import java.util.function.ToLongFunction;
+
+public final class RadixSort {
+    // 8-bit digits keep the count arrays tiny (256 entries) and in L1 cache.
+    // 11 or 16 bits trade bigger count arrays for fewer passes over the data.
+    public static final int DEFAULT_BITS_PER_DIGIT = 8;
+    private static final int MAX_BITS_PER_DIGIT = 16;
+
+    // Space: O(n + 2^bits)
+    // Time : O(n * 32 / bits) => one counting pass per digit, 4 passes with 8-bit digits
+    public static void sort(int[] array, Sort.Order order) {
+        sort(array, DEFAULT_BITS_PER_DIGIT, order);
+    }
+
+    public static void sort(int[] array, int bitsPerDigit, Sort.Order order) {
+        validateBitsPerDigit(bitsPerDigit);
+        if (array.length <= 1) {
+            return;
+        }
+
+        int radix = 1 << bitsPerDigit;
+        int mask = radix - 1;
+        int passes = (Integer.SIZE + bitsPerDigit - 1) / bitsPerDigit;
+        // Flipping the sign bit turns signed order into unsigned order. Flipping every
+        // other bit as well reverses it, which is how DESCENDING is handled.
+        int flip = order == Sort.Order.ASCENDING ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+        // Count every digit of every element in a single read of the array
+        int[][] counts = new int[passes][radix];
+        SortStats.onAllocation((long) passes * radix, Integer.BYTES);
+        for (int value : array) {
+            int key = value ^ flip;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(key >>> (pass * bitsPerDigit)) & mask]++;
+            }
+        }
+
+        int[] source = array;
+        int[] destination = new int[array.length];
+        SortStats.onAllocation(destination.length, Integer.BYTES);
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * bitsPerDigit;
+            int[] count = counts[pass];
+            // Every element has the same digit here, so this pass would not move anything
+            if (count[((source[0] ^ flip) >>> shift) & mask] == array.length) {
+                continue;
+            }
+
+            // Turn the counts into the starting index of each digit's bucket
+            toOffsets(count);
+            for (int value : source) {
+                destination[count[((value ^ flip) >>> shift) & mask]++] = value;
+            }
+
+            int[] temp = source;
+            source = destination;
+            destination = temp;
+        }
+
+        // An odd number of passes leaves the result in the scratch buffer
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, array.length);
+        }
+    }
+
+    // Space: O(n + 2^bits)
+    // Time : O(n * 64 / bits) => 8 passes with 8-bit digits
+    public static void sort(long[] array, Sort.Order order) {
+        sort(array, DEFAULT_BITS_PER_DIGIT, order);
+    }
+
+    public static void sort(long[] array, int bitsPerDigit, Sort.Order order) {
+        validateBitsPerDigit(bitsPerDigit);
+        if (array.length <= 1) {
+            return;
+        }
+
+        long[] sorted = sortByKey(array, null, bitsPerDigit, order);
+        if (sorted != array) {
+            System.arraycopy(sorted, 0, array, 0, array.length);
+        }
+    }
+
+    // Sorts the objects by a long key extracted once per element. Stable, so elements
+    // with equal keys keep their relative order.
+    // Space: O(n + 2^bits) => the keys, plus a scratch buffer for keys and elements
+    // Time : O(n * 64 / bits)
+    public static <T> void sort(T[] array, ToLongFunction<? super T> keyExtractor, Sort.Order order) {
+        sort(array, keyExtractor, DEFAULT_BITS_PER_DIGIT, order);
+    }
+
+    public static <T> void sort(T[] array, ToLongFunction<? super T> keyExtractor, int bitsPerDigit,
+            Sort.Order order) {
+        validateBitsPerDigit(bitsPerDigit);
+        if (array.length <= 1) {
+            return;
+        }
+
+        long[] keys = new long[array.length];
+        SortStats.onAllocation(keys.length, Long.BYTES);
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+        sortByKey(keys, array, bitsPerDigit, order);
+    }
+
+    // Sorts keys, moving values[i] along with keys[i] when values is not null. The sorted
+    // values always end up back in values; the sorted keys are returned, which may be
+    // either the keys array or its scratch buffer.
+    private static <T> long[] sortByKey(long[] keys, T[] values, int bitsPerDigit, Sort.Order order) {
+        int radix = 1 << bitsPerDigit;
+        int mask = radix - 1;
+        int passes = (Long.SIZE + bitsPerDigit - 1) / bitsPerDigit;
+        long flip = order == Sort.Order.ASCENDING ? Long.MIN_VALUE : Long.MAX_VALUE;
+
+        int[][] counts = new int[passes][radix];
+        SortStats.onAllocation((long) passes * radix, Integer.BYTES);
+        for (long value : keys) {
+            long key = value ^ flip;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (key >>> (pass * bitsPerDigit)) & mask]++;
+            }
+        }
+
+        long[] source = keys;
+        long[] destination = new long[keys.length];
+        T[] sourceValues = values;
+        SortStats.onAllocation(destination.length, Long.BYTES);
+        T[] destinationValues = values == null ? null : values.clone();
+        if (destinationValues != null) {
+            SortStats.onAllocation(destinationValues.length, SortStats.REFERENCE_BYTES);
+        }
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * bitsPerDigit;
+            int[] count = counts[pass];
+            if (count[(int) ((source[0] ^ flip) >>> shift) & mask] == keys.length) {
+                continue;
+            }
+
+            toOffsets(count);
+            for (int i = 0; i < source.length; i++) {
+                int index = count[(int) ((source[i] ^ flip) >>> shift) & mask]++;
+                destination[index] = source[i];
+                if (values != null) {
+                    destinationValues[index] = sourceValues[i];
+                }
+            }
+
+            long[] temp = source;
+            source = destination;
+            destination = temp;
+            T[] tempValues = sourceValues;
+            sourceValues = destinationValues;
+            destinationValues = tempValues;
+        }
+
+        if (values != null && sourceValues != values) {
+            System.arraycopy(sourceValues, 0, values, 0, values.length);
+        }
+        return source;
+    }
+
+    // Exclusive prefix sum: count[d] becomes the number of elements with a smaller digit
+    private static void toOffsets(int[] count) {
+        int offset = 0;
+        for (int digit = 0; digit < count.length; digit++) {
+            int digitCount = count[digit];
+            count[digit] = offset;
+            offset += digitCount;
+        }
+    }
+
+    private static void validateBitsPerDigit(int bitsPerDigit) {
+        if (bitsPerDigit < 1 || bitsPerDigit > MAX_BITS_PER_DIGIT) {
+            throw new IllegalArgumentException("Bits per digit must be between 1 and " + MAX_BITS_PER_DIGIT
+                    + ": " + bitsPerDigit);
+        }
+    }
+}
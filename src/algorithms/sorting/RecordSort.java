@@ -0,0 +1,128 @@
+package algorithms.sorting;
+
+import java.nio.ByteBuffer;
+
+// Sorts fixed-width binary records in place inside a ByteBuffer (heap, direct or memory-mapped)
+// by a signed 64-bit key stored at a fixed offset in each record, read in the buffer's byte
+// order. No record is ever turned into an object, so a direct or mapped buffer of tens of
+// millions of records is sorted without touching the Java heap beyond the digit counts.
+//
+// The records are the bytes between the buffer's position and limit; neither is changed.
+// LSD radix sort, the same scheme as RadixSort.sort(long[]): stable, 8 passes of 8-bit digits
+// at most, and passes where every key has the same digit are skipped.
+public final class RecordSort {
+    private static final int BITS_PER_DIGIT = 8;
+    private static final int RADIX = 1 << BITS_PER_DIGIT;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = Long.SIZE / BITS_PER_DIGIT;
+
+    // Space: O(n) off-heap => allocates a direct scratch buffer as large as the records
+    // Time : O(n * 8) => one pass over the records per key byte
+    public static void sort(ByteBuffer records, int recordWidth, int keyOffset, Sort.Order order) {
+        validate(records, recordWidth, keyOffset);
+        if (records.remaining() / recordWidth <= 1) {
+            return;
+        }
+
+        ByteBuffer scratch = ByteBuffer.allocateDirect(records.remaining());
+        SortStats.onAllocation(records.remaining(), Byte.BYTES);
+        sort(records, scratch, recordWidth, keyOffset, order);
+    }
+
+    // Same, with a caller-provided scratch buffer, so repeated sorts can reuse one region.
+    // The scratch buffer needs at least records.remaining() bytes from its position onwards;
+    // its contents are overwritten.
+    public static void sort(ByteBuffer records, ByteBuffer scratch, int recordWidth, int keyOffset,
+            Sort.Order order) {
+        validate(records, recordWidth, keyOffset);
+        if (scratch == null || scratch.isReadOnly() || scratch.remaining() < records.remaining()) {
+            throw new IllegalArgumentException("Scratch buffer must be writable and hold at least "
+                    + records.remaining() + " bytes");
+        }
+
+        int count = records.remaining() / recordWidth;
+        if (count <= 1) {
+            return;
+        }
+
+        // Views over exactly the records and the scratch region, indexed from 0, sharing the
+        // byte order so keys are copied and read back the same way
+        ByteBuffer source = records.slice().order(records.order());
+        ByteBuffer destination = scratch.slice().order(records.order());
+        ByteBuffer original = source;
+        // Same sign-bit trick as RadixSort: ascending unsigned order of (key ^ flip)
+        long flip = order == Sort.Order.ASCENDING ? Long.MIN_VALUE : Long.MAX_VALUE;
+
+        int[][] counts = new int[PASSES][RADIX];
+        for (int i = 0; i < count; i++) {
+            long key = source.getLong(i * recordWidth + keyOffset) ^ flip;
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(int) (key >>> (pass * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        long firstKey = source.getLong(keyOffset) ^ flip;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * BITS_PER_DIGIT;
+            int[] digitCount = counts[pass];
+            if (digitCount[(int) (firstKey >>> shift) & MASK] == count) {
+                continue;
+            }
+
+            toOffsets(digitCount);
+            for (int i = 0; i < count; i++) {
+                int from = i * recordWidth;
+                long key = source.getLong(from + keyOffset) ^ flip;
+                int to = digitCount[(int) (key >>> shift) & MASK]++ * recordWidth;
+                copyRecord(source, from, destination, to, recordWidth);
+            }
+
+            ByteBuffer temp = source;
+            source = destination;
+            destination = temp;
+        }
+
+        // An odd number of passes leaves the result in the scratch buffer
+        if (source != original) {
+            original.put(0, source, 0, count * recordWidth);
+        }
+    }
+
+    // Records that are a whole number of longs (e.g. key + payload) are moved 8 bytes at a
+    // time; anything else goes through the bulk byte copy
+    private static void copyRecord(ByteBuffer source, int from, ByteBuffer destination, int to, int recordWidth) {
+        if ((recordWidth & (Long.BYTES - 1)) == 0) {
+            for (int offset = 0; offset < recordWidth; offset += Long.BYTES) {
+                destination.putLong(to + offset, source.getLong(from + offset));
+            }
+        } else {
+            destination.put(to, source, from, recordWidth);
+        }
+    }
+
+    private static void toOffsets(int[] count) {
+        int offset = 0;
+        for (int digit = 0; digit < count.length; digit++) {
+            int digitCount = count[digit];
+            count[digit] = offset;
+            offset += digitCount;
+        }
+    }
+
+    private static void validate(ByteBuffer records, int recordWidth, int keyOffset) {
+        if (records == null) {
+            throw new IllegalArgumentException("Records buffer cannot be null");
+        }
+        if (records.isReadOnly()) {
+            throw new IllegalArgumentException("Records buffer must be writable");
+        }
+        if (recordWidth < Long.BYTES || keyOffset < 0 || keyOffset > recordWidth - Long.BYTES) {
+            throw new IllegalArgumentException("The 8-byte key at offset " + keyOffset
+                    + " does not fit in a record of " + recordWidth + " bytes");
+        }
+        if (records.remaining() % recordWidth != 0) {
+            throw new IllegalArgumentException("Buffer holds " + records.remaining()
+                    + " bytes, not a whole number of " + recordWidth + "-byte records");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+// Parallel sample sort: picks bucket boundaries (splitters) from a random sample, moves every
+// element into its bucket in parallel, then sorts the buckets concurrently with introsort.
+// Each phase touches disjoint parts of the arrays, so no locking is needed.
+//
+// A value repeated in the sample is frequent in the input. When the sample has repeats, every
+// splitter also gets an equality bucket for the elements equal to it (as in IPS4o). Those
+// buckets need no sorting, and a frequent value no longer piles up in one bucket that a
+// single thread has to sort.
+public final class SampleSort {
+    // Arrays at or below this size are sorted sequentially
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+    // More buckets than threads, so one unlucky bucket does not keep the other threads waiting
+    private static final int BUCKETS_PER_THREAD = 4;
+    // Sample elements taken per bucket; more samples give more evenly sized buckets
+    private static final int OVERSAMPLING = 32;
+
+    // Space: O(n) => a scratch copy of the array plus a bucket index per element
+    // Time : O(n log n) work, spread over the common ForkJoinPool
+    public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        sort(array, comparator, ForkJoinPool.commonPool());
+    }
+
+    // Runs the sort on the caller's pool, at that pool's parallelism level. Creating a pool
+    // per call would cost more thread start-up than small and medium sorts take.
+    public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order, ForkJoinPool pool) {
+        sort(array, Sort.comparator(order), pool);
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, ForkJoinPool pool) {
+        comparator = SortStats.instrument(comparator);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        sampleSort(array, comparator, pool);
+    }
+
+    private static <T> void sampleSort(T[] array, Comparator<? super T> comparator, ForkJoinPool pool) {
+        int length = array.length;
+        int parallelism = pool.getParallelism();
+        if (parallelism == 1 || length <= SEQUENTIAL_THRESHOLD) {
+            QuickSort.introSort(array, comparator);
+            return;
+        }
+
+        // 1. Choose up to targetBuckets - 1 distinct splitters evenly spaced in a sorted random
+        //    sample; fewer means the sample had repeats, and equality buckets are used
+        int targetBuckets = parallelism * BUCKETS_PER_THREAD;
+        T[] splitters = chooseSplitters(array, targetBuckets, comparator);
+        boolean equalityBuckets = splitters.length < targetBuckets - 1;
+        int bucketCount = equalityBuckets ? 2 * splitters.length + 1 : splitters.length + 1;
+
+        // 2. Each thread classifies its own block of the array and counts its bucket sizes
+        int blockCount = parallelism;
+        int blockSize = (length + blockCount - 1) / blockCount;
+        int[] bucketOf = new int[length];
+        int[][] counts = new int[blockCount][bucketCount];
+        SortStats.onAllocation(bucketOf.length + (long) blockCount * bucketCount, Integer.BYTES);
+        parallelFor(pool, blockCount, block -> {
+            int[] count = counts[block];
+            int end = Math.min(length, (block + 1) * blockSize);
+            for (int i = block * blockSize; i < end; i++) {
+                int bucket = findBucket(splitters, equalityBuckets, array[i], comparator);
+                bucketOf[i] = bucket;
+                count[bucket]++;
+            }
+        });
+
+        // 3. Prefix sums: bucket by bucket, and within a bucket block by block. Turns the counts
+        //    into where each block starts writing into each bucket, and records bucket bounds.
+        int[] bucketStart = new int[bucketCount + 1];
+        int offset = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            bucketStart[bucket] = offset;
+            for (int block = 0; block < blockCount; block++) {
+                int count = counts[block][bucket];
+                counts[block][bucket] = offset;
+                offset += count;
+            }
+        }
+        bucketStart[bucketCount] = length;
+
+        // 4. Scatter into the buffer; every block writes to its own slots of every bucket
+        T[] buffer = array.clone();
+        SortStats.onAllocation(buffer.length, SortStats.REFERENCE_BYTES);
+        parallelFor(pool, blockCount, block -> {
+            int[] next = counts[block];
+            int end = Math.min(length, (block + 1) * blockSize);
+            for (int i = block * blockSize; i < end; i++) {
+                buffer[next[bucketOf[i]]++] = array[i];
+            }
+        });
+
+        // 5. Copy each bucket back to its final place in the array and sort it there; the
+        //    equality buckets (the odd ones) hold a single value and are already sorted
+        parallelFor(pool, bucketCount, bucket -> {
+            int low = bucketStart[bucket];
+            int high = bucketStart[bucket + 1];
+            System.arraycopy(buffer, low, array, low, high - low);
+            if (!equalityBuckets || bucket % 2 == 0) {
+                QuickSort.introSort(array, low, high, comparator);
+            }
+        });
+    }
+
+    private static <T> T[] chooseSplitters(T[] array, int bucketCount, Comparator<? super T> comparator) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        T[] sample = Arrays.copyOf(array, Math.min(array.length, bucketCount * OVERSAMPLING));
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = array[random.nextInt(array.length)];
+        }
+        QuickSort.introSort(sample, comparator);
+
+        // Drop repeated splitters: they would only produce empty buckets. The caller tells from
+        // the shorter result that the sample had repeats.
+        T[] splitters = Arrays.copyOf(sample, bucketCount - 1);
+        int count = 0;
+        for (int i = 1; i < bucketCount; i++) {
+            T candidate = sample[i * sample.length / bucketCount];
+            if (count == 0 || comparator.compare(splitters[count - 1], candidate) < 0) {
+                splitters[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+
+    // Bucket the element belongs to. Without equality buckets that is the index of the first
+    // splitter greater than the element. With them, bucket 2j holds the elements between
+    // splitters j - 1 and j, and bucket 2j + 1 the elements equal to splitter j.
+    private static <T> int findBucket(T[] splitters, boolean equalityBuckets, T element,
+            Comparator<? super T> comparator) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(splitters[mid], element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (!equalityBuckets) {
+            return low;
+        }
+        // splitters[low - 1] is not greater than the element, so it is equal unless less
+        return low > 0 && comparator.compare(splitters[low - 1], element) == 0 ? 2 * low - 1 : 2 * low;
+    }
+
+    // Runs body(0) .. body(count - 1) concurrently on the pool and waits for all of them
+    private static void parallelFor(ForkJoinPool pool, int count, IntConsumer body) {
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[count];
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks[i] = ForkJoinTask.adapt(() -> body.accept(index));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+}
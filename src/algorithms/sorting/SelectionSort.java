@@ -1,9 +1,16 @@
 package algorithms.sorting;
 
+import java.util.Comparator;
+
 public final class SelectionSort {
     // Space: O(1) in-place
     // Time : O(n^2) worst/average/best case
     public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        comparator = SortStats.instrument(comparator);
         for (int i = 0; i < array.length - 1; i++) {
             // Assume the first element of the unsorted part is the extreme one (min or max)
             int extremeElementIndex = i; 
@@ -11,7 +18,7 @@ public final class SelectionSort {
             // Find the true extreme element in the rest of the array
             for (int j = i + 1; j < array.length; j++) {
                 // If the current element is more "extreme", we have a new candidate.
-                if (Sort.isOutOfOrder(array[extremeElementIndex], array[j], order)) {
+                if (comparator.compare(array[extremeElementIndex], array[j]) > 0) {
                     extremeElementIndex = j;
                 }
             }
@@ -22,4 +29,55 @@ public final class SelectionSort {
             }
         }
     }
+
+    public static void sort(int[] array, Sort.Order order) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        for (int i = 0; i < array.length - 1; i++) {
+            int extremeElementIndex = i; 
+
+            for (int j = i + 1; j < array.length; j++) {
+                if (Sort.isOutOfOrder(array[extremeElementIndex], array[j], descending)) {
+                    extremeElementIndex = j;
+                }
+            }
+
+            if (extremeElementIndex != i) {
+                Sort.swap(array, extremeElementIndex, i);
+            }
+        }
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        for (int i = 0; i < array.length - 1; i++) {
+            int extremeElementIndex = i; 
+
+            for (int j = i + 1; j < array.length; j++) {
+                if (Sort.isOutOfOrder(array[extremeElementIndex], array[j], descending)) {
+                    extremeElementIndex = j;
+                }
+            }
+
+            if (extremeElementIndex != i) {
+                Sort.swap(array, extremeElementIndex, i);
+            }
+        }
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        boolean descending = order == Sort.Order.DESCENDING;
+        for (int i = 0; i < array.length - 1; i++) {
+            int extremeElementIndex = i; 
+
+            for (int j = i + 1; j < array.length; j++) {
+                if (Sort.isOutOfOrder(array[extremeElementIndex], array[j], descending)) {
+                    extremeElementIndex = j;
+                }
+            }
+
+            if (extremeElementIndex != i) {
+                Sort.swap(array, extremeElementIndex, i);
+            }
+        }
+    }
 }
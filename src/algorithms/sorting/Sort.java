@@ -1,23 +1,60 @@
 package algorithms.sorting;
 
+import java.util.Comparator;
+
 // Utility class for shared sorting methods
 public final class Sort {
     public static enum Order {
         DESCENDING, ASCENDING
     }
 
+    /**
+     * Returns the comparator the Order overloads of the sorters delegate to. Both are shared
+     * instances, so the sort loops make one comparator call per comparison instead of
+     * switching on the order every time.
+     */
+    public static <T extends Comparable<? super T>> Comparator<T> comparator(Order order) {
+        return switch (order) {
+            case ASCENDING -> Comparator.naturalOrder();
+            case DESCENDING -> Comparator.reverseOrder();
+        };
+    }
+
     public static <T> void swap(T[] array, int firstIndex, int secondIndex) {
+        SortStats.onSwap();
         T temp = array[firstIndex];
         array[firstIndex] = array[secondIndex];
         array[secondIndex] = temp;
     }
 
+    public static void swap(int[] array, int firstIndex, int secondIndex) {
+        SortStats.onSwap();
+        int temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+
+    public static void swap(long[] array, int firstIndex, int secondIndex) {
+        SortStats.onSwap();
+        long temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+
+    public static void swap(double[] array, int firstIndex, int secondIndex) {
+        SortStats.onSwap();
+        double temp = array[firstIndex];
+        array[firstIndex] = array[secondIndex];
+        array[secondIndex] = temp;
+    }
+
     /**
      * Checks if two items are in the wrong relative order according to the specified sort order.
      * For example, in ASCENDING order, this returns true if the first item is greater than the second.
      * @return true if the elements are out of order, false otherwise.
      */
     public static <T extends Comparable<T>> boolean isOutOfOrder(T firstItem, T secondItem, Order sortOrder) {
+        SortStats.onComparison();
         return switch (sortOrder) {
             // In ASC order, they're out of order if the first is greater than the second.
             case ASCENDING -> firstItem.compareTo(secondItem) > 0;
@@ -27,10 +64,67 @@ public final class Sort {
     }
 
     public static <T extends Comparable<T>> int compare(T first, T second, Order order) {
+        SortStats.onComparison();
         return switch (order) {
             case ASCENDING -> first.compareTo(second);
             case DESCENDING -> second.compareTo(first);
         };
     }
 
+    public static boolean isOutOfOrder(int firstItem, int secondItem, Order sortOrder) {
+        return isOutOfOrder(firstItem, secondItem, sortOrder == Order.DESCENDING);
+    }
+
+    public static boolean isOutOfOrder(long firstItem, long secondItem, Order sortOrder) {
+        return isOutOfOrder(firstItem, secondItem, sortOrder == Order.DESCENDING);
+    }
+
+    public static boolean isOutOfOrder(double firstItem, double secondItem, Order sortOrder) {
+        return isOutOfOrder(firstItem, secondItem, sortOrder == Order.DESCENDING);
+    }
+
+    public static int compare(int first, int second, Order order) {
+        return compare(first, second, order == Order.DESCENDING);
+    }
+
+    public static int compare(long first, long second, Order order) {
+        return compare(first, second, order == Order.DESCENDING);
+    }
+
+    /**
+     * Compares doubles using the total order of {@link Double#compare}, like Arrays.sort does:
+     * -0.0 comes before 0.0, and NaN comes after every other value (so first in DESCENDING order).
+     */
+    public static int compare(double first, double second, Order order) {
+        return compare(first, second, order == Order.DESCENDING);
+    }
+
+    // The primitive sorters turn their Order into this flag once per call and pass it down,
+    // so the comparisons in their loops test a boolean instead of switching on the enum
+    static boolean isOutOfOrder(int firstItem, int secondItem, boolean descending) {
+        return compare(firstItem, secondItem, descending) > 0;
+    }
+
+    static boolean isOutOfOrder(long firstItem, long secondItem, boolean descending) {
+        return compare(firstItem, secondItem, descending) > 0;
+    }
+
+    static boolean isOutOfOrder(double firstItem, double secondItem, boolean descending) {
+        return compare(firstItem, secondItem, descending) > 0;
+    }
+
+    static int compare(int first, int second, boolean descending) {
+        SortStats.onComparison();
+        return descending ? Integer.compare(second, first) : Integer.compare(first, second);
+    }
+
+    static int compare(long first, long second, boolean descending) {
+        SortStats.onComparison();
+        return descending ? Long.compare(second, first) : Long.compare(first, second);
+    }
+
+    static int compare(double first, double second, boolean descending) {
+        SortStats.onComparison();
+        return descending ? Double.compare(second, first) : Double.compare(first, second);
+    }
 }
@@ -0,0 +1,165 @@
+package algorithms.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Opt-in counters for a single sort call: comparisons, swaps, recursion depth, scratch memory
+// and wall time. Collection is compiled in only when the JVM runs with
+//   -Dalgorithms.sorting.stats=true
+// Otherwise ENABLED is a constant false, every hook below returns immediately and the JIT
+// removes them, so the sorters pay nothing for it.
+//
+// Usage:
+//   SortStats stats = SortStats.record(() -> QuickSort.sort(array, Sort.Order.ASCENDING));
+//
+// Comparisons are counted on every thread a sort uses. Swaps, recursion depth and scratch
+// memory are counted on the calling thread only, so for the parallel sorters they cover the
+// work done on that thread (MergeSort.parallelSort and SampleSort still report their buffers).
+public final class SortStats {
+    public static final boolean ENABLED = Boolean.getBoolean("algorithms.sorting.stats");
+
+    // Reference arrays are estimated at 4 bytes per element (compressed object pointers)
+    static final int REFERENCE_BYTES = 4;
+
+    private static final ThreadLocal<SortStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder comparisons = new LongAdder();
+    private long swaps;
+    private int recursionDepth;
+    private int maxRecursionDepth;
+    private long scratchBytes;
+    private long elapsedNanos;
+
+    private SortStats() {
+    }
+
+    // Runs the sort on this thread and returns what it did
+    public static SortStats record(Runnable sort) {
+        if (!ENABLED) {
+            throw new IllegalStateException("Sort statistics are disabled, run with -Dalgorithms.sorting.stats=true");
+        }
+
+        SortStats stats = new SortStats();
+        SortStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        long start = System.nanoTime();
+        try {
+            sort.run();
+        } finally {
+            stats.elapsedNanos = System.nanoTime() - start;
+            CURRENT.set(previous);
+        }
+        return stats;
+    }
+
+    public long comparisons() {
+        return comparisons.sum();
+    }
+
+    public long swaps() {
+        return swaps;
+    }
+
+    public int maxRecursionDepth() {
+        return maxRecursionDepth;
+    }
+
+    public long scratchBytes() {
+        return scratchBytes;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SortStats[comparisons=" + comparisons() + ", swaps=" + swaps
+                + ", maxRecursionDepth=" + maxRecursionDepth + ", scratchBytes=" + scratchBytes
+                + ", elapsedNanos=" + elapsedNanos + "]";
+    }
+
+    // Hooks called by the sorters. Each one is a no-op unless ENABLED and a recording is
+    // active on the current thread.
+
+    // Wraps the comparator so every call is counted. Called once at each comparator entry
+    // point; a comparator that is already counting is returned as is, so nested entry
+    // points (e.g. SampleSort calling QuickSort) do not count twice.
+    static <T> Comparator<T> instrument(Comparator<T> comparator) {
+        if (!ENABLED) {
+            return comparator;
+        }
+        SortStats stats = CURRENT.get();
+        if (stats == null || comparator instanceof CountingComparator) {
+            return comparator;
+        }
+        return new CountingComparator<>(comparator, stats.comparisons);
+    }
+
+    static void onComparison() {
+        if (!ENABLED) {
+            return;
+        }
+        SortStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.comparisons.increment();
+        }
+    }
+
+    static void onSwap() {
+        if (!ENABLED) {
+            return;
+        }
+        SortStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.swaps++;
+        }
+    }
+
+    static void onEnterRecursion() {
+        if (!ENABLED) {
+            return;
+        }
+        SortStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recursionDepth++;
+            stats.maxRecursionDepth = Math.max(stats.maxRecursionDepth, stats.recursionDepth);
+        }
+    }
+
+    static void onExitRecursion() {
+        if (!ENABLED) {
+            return;
+        }
+        SortStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recursionDepth--;
+        }
+    }
+
+    static void onAllocation(long length, int elementBytes) {
+        if (!ENABLED) {
+            return;
+        }
+        SortStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.scratchBytes += length * elementBytes;
+        }
+    }
+
+    private static final class CountingComparator<T> implements Comparator<T> {
+        private final Comparator<T> delegate;
+        private final LongAdder comparisons;
+
+        CountingComparator(Comparator<T> delegate, LongAdder comparisons) {
+            this.delegate = delegate;
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public int compare(T first, T second) {
+            comparisons.increment();
+            return delegate.compare(first, second);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package algorithms.sorting;
+
+import java.util.Comparator;
+
+// Fixed sorting networks for 2 to 16 elements: a sequence of compare-exchange steps that
+// sorts any input of that size, chosen without looking at the data. For primitives each step
+// is a min/max pair, which the JIT compiles to conditional moves, so sorting a small range
+// has no data-dependent branches to mispredict. QuickSort and the primitive MergeSort use
+// them for the small ranges at the bottom of their recursion.
+//
+// The networks are the smallest known for each size (13 inputs uses 46 comparators, one more
+// than the best known 45), each laid out as flat (i, j) pairs with i < j, one line per layer
+// of independent steps. Not stable.
+public final class SortingNetwork {
+    public static final int MAX_SIZE = 16;
+
+    private static final int[][] NETWORKS = {
+        {},
+        {},
+        // 2 inputs: 1 comparator
+        {
+            0, 1,
+        },
+        // 3 inputs: 3 comparators, 3 layers
+        {
+            0, 2,
+            0, 1,
+            1, 2,
+        },
+        // 4 inputs: 5 comparators, 3 layers
+        {
+            0, 2, 1, 3,
+            0, 1, 2, 3,
+            1, 2,
+        },
+        // 5 inputs: 9 comparators, 5 layers
+        {
+            0, 3, 1, 4,
+            0, 2, 1, 3,
+            0, 1, 2, 4,
+            1, 2, 3, 4,
+            2, 3,
+        },
+        // 6 inputs: 12 comparators, 5 layers
+        {
+            0, 5, 1, 3, 2, 4,
+            1, 2, 3, 4,
+            0, 3, 2, 5,
+            0, 1, 2, 3, 4, 5,
+            1, 2, 3, 4,
+        },
+        // 7 inputs: 16 comparators, 6 layers
+        {
+            0, 6, 2, 3, 4, 5,
+            0, 2, 1, 4, 3, 6,
+            0, 1, 2, 5, 3, 4,
+            1, 2, 4, 6,
+            2, 3, 4, 5,
+            1, 2, 3, 4, 5, 6,
+        },
+        // 8 inputs: 19 comparators, 6 layers
+        {
+            0, 2, 1, 3, 4, 6, 5, 7,
+            0, 4, 1, 5, 2, 6, 3, 7,
+            0, 1, 2, 3, 4, 5, 6, 7,
+            2, 4, 3, 5,
+            1, 4, 3, 6,
+            1, 2, 3, 4, 5, 6,
+        },
+        // 9 inputs: 25 comparators, 7 layers
+        {
+            0, 3, 1, 7, 2, 5, 4, 8,
+            0, 7, 2, 4, 3, 8, 5, 6,
+            0, 2, 1, 3, 4, 5, 7, 8,
+            1, 4, 3, 6, 5, 7,
+            0, 1, 2, 4, 3, 5, 6, 8,
+            2, 3, 4, 5, 6, 7,
+            1, 2, 3, 4, 5, 6,
+        },
+        // 10 inputs: 29 comparators, 8 layers
+        {
+            0, 8, 1, 9, 2, 7, 3, 5, 4, 6,
+            0, 2, 1, 4, 5, 8, 7, 9,
+            0, 3, 2, 4, 5, 7, 6, 9,
+            0, 1, 3, 6, 8, 9,
+            1, 5, 2, 3, 4, 8, 6, 7,
+            1, 2, 3, 5, 4, 6, 7, 8,
+            2, 3, 4, 5, 6, 7,
+            3, 4, 5, 6,
+        },
+        // 11 inputs: 35 comparators, 8 layers
+        {
+            0, 9, 1, 6, 2, 4, 3, 7, 5, 8,
+            0, 1, 3, 5, 4, 10, 6, 9, 7, 8,
+            1, 3, 2, 5, 4, 7, 8, 10,
+            0, 4, 1, 2, 3, 7, 5, 9, 6, 8,
+            0, 1, 2, 6, 4, 5, 7, 8, 9, 10,
+            2, 4, 3, 6, 5, 7, 8, 9,
+            1, 2, 3, 4, 5, 6, 7, 8,
+            2, 3, 4, 5, 6, 7,
+        },
+        // 12 inputs: 39 comparators, 9 layers
+        {
+            0, 8, 1, 7, 2, 6, 3, 11, 4, 10, 5, 9,
+            0, 1, 2, 5, 3, 4, 6, 9, 7, 8, 10, 11,
+            0, 2, 1, 6, 5, 10, 9, 11,
+            0, 3, 1, 2, 4, 6, 5, 7, 8, 11, 9, 10,
+            1, 4, 3, 5, 6, 8, 7, 10,
+            1, 3, 2, 5, 6, 9, 8, 10,
+            2, 3, 4, 5, 6, 7, 8, 9,
+            4, 6, 5, 7,
+            3, 4, 5, 6, 7, 8,
+        },
+        // 13 inputs: 46 comparators, 10 layers
+        {
+            1, 12, 4, 8, 5, 6, 7, 11, 9, 10,
+            0, 5, 1, 7, 2, 9, 3, 4, 11, 12, 6, 8,
+            0, 1, 2, 3, 4, 5, 7, 9, 10, 11,
+            0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9,
+            1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11,
+            1, 4, 2, 6, 5, 8, 7, 10, 9, 12,
+            2, 4, 3, 6, 7, 9, 10, 12,
+            3, 5, 6, 8, 9, 10, 11, 12,
+            3, 4, 5, 6, 7, 8,
+            6, 7, 8, 9,
+        },
+        // 14 inputs: 51 comparators, 10 layers
+        {
+            0, 13, 1, 12, 4, 8, 5, 6, 7, 11, 9, 10,
+            0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 11, 12,
+            0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13,
+            0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9,
+            1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11,
+            1, 4, 2, 6, 5, 8, 7, 10, 9, 13,
+            2, 4, 3, 6, 9, 12, 11, 13,
+            3, 5, 6, 8, 7, 9, 10, 12,
+            3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+            6, 7, 8, 9,
+        },
+        // 15 inputs: 56 comparators, 10 layers
+        {
+            0, 13, 1, 12, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10,
+            0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 11, 12,
+            0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13,
+            0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14,
+            1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14,
+            1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14,
+            2, 4, 3, 6, 9, 12, 11, 13,
+            3, 5, 6, 8, 7, 9, 10, 12,
+            3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+            6, 7, 8, 9,
+        },
+        // 16 inputs: 60 comparators, 10 layers
+        {
+            0, 13, 1, 12, 2, 15, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10,
+            0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 10, 15, 11, 12,
+            0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 14, 15,
+            0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14, 13, 15,
+            1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14,
+            1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14,
+            2, 4, 3, 6, 9, 12, 11, 13,
+            3, 5, 6, 8, 7, 9, 10, 12,
+            3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+            6, 7, 8, 9,
+        },
+    };
+
+    // Space: O(1)
+    // Time : O(1) => at most 60 compare-exchanges, whatever the input
+    public static <T extends Comparable<T>> void sort(T[] array, Sort.Order order) {
+        sort(array, Sort.comparator(order));
+    }
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        validateSize(array.length);
+        comparator = SortStats.instrument(comparator);
+        sort(array, 0, array.length, comparator);
+    }
+
+    public static void sort(int[] array, Sort.Order order) {
+        validateSize(array.length);
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    public static void sort(long[] array, Sort.Order order) {
+        validateSize(array.length);
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    public static void sort(double[] array, Sort.Order order) {
+        validateSize(array.length);
+        sort(array, 0, array.length, order == Sort.Order.DESCENDING);
+    }
+
+    // Sorts array[low, high), which must hold at most MAX_SIZE elements
+    static <T> void sort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int[] network = NETWORKS[high - low];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = low + network[k];
+            int j = low + network[k + 1];
+            if (comparator.compare(array[i], array[j]) > 0) {
+                Sort.swap(array, i, j);
+            }
+        }
+    }
+
+    static void sort(int[] array, int low, int high, boolean descending) {
+        int[] network = NETWORKS[high - low];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = low + network[k];
+            int j = low + network[k + 1];
+            SortStats.onComparison();
+            int first = array[i];
+            int second = array[j];
+            int min = Math.min(first, second);
+            int max = Math.max(first, second);
+            array[i] = descending ? max : min;
+            array[j] = descending ? min : max;
+        }
+    }
+
+    static void sort(long[] array, int low, int high, boolean descending) {
+        int[] network = NETWORKS[high - low];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = low + network[k];
+            int j = low + network[k + 1];
+            SortStats.onComparison();
+            long first = array[i];
+            long second = array[j];
+            long min = Math.min(first, second);
+            long max = Math.max(first, second);
+            array[i] = descending ? max : min;
+            array[j] = descending ? min : max;
+        }
+    }
+
+    // Math.min/max treat NaN and -0.0 differently from Double.compare, so the exchange is
+    // decided by Double.compare (still a select, not a branch around the stores)
+    static void sort(double[] array, int low, int high, boolean descending) {
+        int[] network = NETWORKS[high - low];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = low + network[k];
+            int j = low + network[k + 1];
+            SortStats.onComparison();
+            double first = array[i];
+            double second = array[j];
+            int comparison = Double.compare(first, second);
+            boolean exchange = descending ? comparison < 0 : comparison > 0;
+            array[i] = exchange ? second : first;
+            array[j] = exchange ? first : second;
+        }
+    }
+
+    private static void validateSize(int length) {
+        if (length > MAX_SIZE) {
+            throw new IllegalArgumentException("Sorting networks handle at most " + MAX_SIZE + " elements: " + length);
+        }
+    }
+}
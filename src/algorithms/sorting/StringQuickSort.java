@@ -0,0 +1,162 @@
+package algorithms.sorting;
+
+// Three-way radix quicksort (multikey quicksort): partitions on a single character at the
+// current depth into less / equal / greater, and only the equal part moves on to the next
+// character. A prefix shared by many keys is therefore examined once per partitioning step
+// instead of being re-compared from the start by every String.compareTo call.
+public final class StringQuickSort {
+    // Ranges at or below this size are finished with insertion sort from the current depth
+    private static final int INSERTION_SORT_THRESHOLD = 12;
+
+    // Space: O(log n + L) recursion, L = length of the longest common prefix
+    // Time : O(n log n + total length of distinguishing prefixes) on average
+    // Sorts by UTF-16 code unit, the same order as String.compareTo
+    public static void sort(String[] array, Sort.Order order) {
+        sort(array, 0, array.length - 1, 0, order == Sort.Order.DESCENDING);
+    }
+
+    // Sorts byte strings lexicographically with bytes compared as unsigned values (0x00..0xFF),
+    // so UTF-8 encoded keys come out in code point order. A shorter key sorts before any
+    // longer key that starts with it.
+    public static void sort(byte[][] array, Sort.Order order) {
+        sort(array, 0, array.length - 1, 0, order == Sort.Order.DESCENDING);
+    }
+
+    // Character at `depth`, or -1 once the string has ended, so shorter strings come first
+    private static int charAt(String key, int depth) {
+        return depth < key.length() ? key.charAt(depth) : -1;
+    }
+
+    private static int byteAt(byte[] key, int depth) {
+        return depth < key.length ? key[depth] & 0xFF : -1;
+    }
+
+    private static void sort(String[] array, int low, int high, int depth, boolean descending) {
+        SortStats.onEnterRecursion();
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            // Median of three characters at this depth as the pivot character
+            int mid = (low + high) >>> 1;
+            int pivot = median(charAt(array[low], depth), charAt(array[mid], depth), charAt(array[high], depth));
+
+            // Dijkstra's 3-way partition on that character:
+            //   [low, lessEnd) before pivot, [lessEnd, i) equal, (greaterStart, high] after pivot
+            int lessEnd = low;
+            int greaterStart = high;
+            int i = low;
+            while (i <= greaterStart) {
+                int comparison = compareChars(charAt(array[i], depth), pivot, descending);
+                if (comparison < 0) {
+                    Sort.swap(array, lessEnd++, i++);
+                } else if (comparison > 0) {
+                    Sort.swap(array, i, greaterStart--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse into the two smaller sides, then continue on the equal part one character
+            // deeper. Keys that already ended at this depth (pivot -1) are all equal.
+            sort(array, low, lessEnd - 1, depth, descending);
+            sort(array, greaterStart + 1, high, depth, descending);
+            if (pivot < 0) {
+                SortStats.onExitRecursion();
+                return;
+            }
+            low = lessEnd;
+            high = greaterStart;
+            depth++;
+        }
+
+        insertionSort(array, low, high, depth, descending);
+        SortStats.onExitRecursion();
+    }
+
+    private static void sort(byte[][] array, int low, int high, int depth, boolean descending) {
+        SortStats.onEnterRecursion();
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            int mid = (low + high) >>> 1;
+            int pivot = median(byteAt(array[low], depth), byteAt(array[mid], depth), byteAt(array[high], depth));
+
+            int lessEnd = low;
+            int greaterStart = high;
+            int i = low;
+            while (i <= greaterStart) {
+                int comparison = compareChars(byteAt(array[i], depth), pivot, descending);
+                if (comparison < 0) {
+                    Sort.swap(array, lessEnd++, i++);
+                } else if (comparison > 0) {
+                    Sort.swap(array, i, greaterStart--);
+                } else {
+                    i++;
+                }
+            }
+
+            sort(array, low, lessEnd - 1, depth, descending);
+            sort(array, greaterStart + 1, high, depth, descending);
+            if (pivot < 0) {
+                SortStats.onExitRecursion();
+                return;
+            }
+            low = lessEnd;
+            high = greaterStart;
+            depth++;
+        }
+
+        insertionSort(array, low, high, depth, descending);
+        SortStats.onExitRecursion();
+    }
+
+    // All keys in [low, high] share their first `depth` characters, so comparisons start there
+    private static void insertionSort(String[] array, int low, int high, int depth, boolean descending) {
+        for (int i = low + 1; i <= high; i++) {
+            String current = array[i];
+            int j = i - 1;
+            while (j >= low && compareFrom(array[j], current, depth, descending) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static void insertionSort(byte[][] array, int low, int high, int depth, boolean descending) {
+        for (int i = low + 1; i <= high; i++) {
+            byte[] current = array[i];
+            int j = i - 1;
+            while (j >= low && compareFrom(array[j], current, depth, descending) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = current;
+        }
+    }
+
+    private static int compareFrom(String first, String second, int depth, boolean descending) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = depth; i < length; i++) {
+            if (first.charAt(i) != second.charAt(i)) {
+                return compareChars(first.charAt(i), second.charAt(i), descending);
+            }
+        }
+        return compareChars(first.length(), second.length(), descending);
+    }
+
+    private static int compareFrom(byte[] first, byte[] second, int depth, boolean descending) {
+        int length = Math.min(first.length, second.length);
+        for (int i = depth; i < length; i++) {
+            if (first[i] != second[i]) {
+                return compareChars(first[i] & 0xFF, second[i] & 0xFF, descending);
+            }
+        }
+        return compareChars(first.length, second.length, descending);
+    }
+
+    private static int compareChars(int first, int second, boolean descending) {
+        SortStats.onComparison();
+        return descending ? Integer.compare(second, first) : Integer.compare(first, second);
+    }
+
+    private static int median(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+}
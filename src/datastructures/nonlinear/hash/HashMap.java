@@ -22,33 +22,72 @@ public class HashMap<K, V> {
 
     private static final int DEFAULT_SIZE = 16;
     private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+    // Old buckets moved to the new table by every operation during an incremental resize.
+    // The table doubles, so the move is done long before the next resize is due.
+    private static final int MIGRATION_STEP = 8;
     private Node<K, V>[] buckets;
+    // Always a power of two, see Hashing
     private int capacity;
+    // Largest size before the table grows: capacity * LOAD_FACTOR_THRESHOLD
+    private int resizeThreshold;
     private int size;
+    // Set while an incremental resize is in progress: buckets [0, migrated) of the previous
+    // table have been moved to buckets, the rest still hold their entries
+    private Node<K, V>[] oldBuckets;
+    private int migrated;
+    private final boolean incrementalResize;
 
-    @SuppressWarnings("unchecked")
     public HashMap() {
-        this.capacity = DEFAULT_SIZE;
-        this.buckets = (Node<K, V>[]) new Node[DEFAULT_SIZE];
+        this(false);
+    }
+
+    public HashMap(boolean incrementalResize) {
+        this(0, incrementalResize);
+    }
+
+    // Sized up front for expectedSize entries, which then go in without any resize
+    public HashMap(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    // With incrementalResize, growing the table does not move every entry at once: both
+    // tables stay live and each following operation moves a few buckets, so no single
+    // insert pays for rehashing the whole map
+    @SuppressWarnings("unchecked")
+    public HashMap(int expectedSize, boolean incrementalResize) {
+        this.capacity = Hashing.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD, DEFAULT_SIZE);
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
+        this.buckets = (Node<K, V>[]) new Node[capacity];
         this.size = 0;
+        this.incrementalResize = incrementalResize;
     }
 
-    private int hash(K key) {
+    private int hash(K key, Node<K, V>[] table) {
         if (key == null) {
             return 0;
         }
-        return Math.floorMod(key.hashCode(), capacity);
+        return Hashing.spread(key.hashCode()) & (table.length - 1);
+    }
+
+    // The table holding the key's bucket: the old one until that bucket has been migrated
+    private Node<K, V>[] tableFor(K key) {
+        if (oldBuckets != null && hash(key, oldBuckets) >= migrated) {
+            return oldBuckets;
+        }
+        return buckets;
     }
 
     public void insert(K key, V value) {
         if (key == null || value == null) {
             throw new IllegalArgumentException("Key and value cannot be null");
         }
-        if ((double) (size + 1) / capacity > LOAD_FACTOR_THRESHOLD) {
+        if (size + 1 > resizeThreshold) {
             resize();
         }
-        int index = hash(key);
-        Node<K, V> current = buckets[index];
+        migrate(MIGRATION_STEP);
+        Node<K, V>[] table = tableFor(key);
+        int index = hash(key, table);
+        Node<K, V> current = table[index];
         Node<K, V> prev = null;
 
         while (current != null) {
@@ -62,7 +101,7 @@ public class HashMap<K, V> {
 
         Node<K, V> newNode = new Node<>(key, value);
         if (prev == null) {
-            buckets[index] = newNode;
+            table[index] = newNode;
         } else {
             prev.next = newNode;
         }
@@ -73,8 +112,9 @@ public class HashMap<K, V> {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
-        int index = hash(key);
-        Node<K, V> current = buckets[index];
+        migrate(MIGRATION_STEP);
+        Node<K, V>[] table = tableFor(key);
+        Node<K, V> current = table[hash(key, table)];
 
         while (current != null) {
             if (Objects.equals(current.key, key)) {
@@ -89,8 +129,10 @@ public class HashMap<K, V> {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
-        int index = hash(key);
-        Node<K, V> current = buckets[index];
+        migrate(MIGRATION_STEP);
+        Node<K, V>[] table = tableFor(key);
+        int index = hash(key, table);
+        Node<K, V> current = table[index];
         if (current == null) {
             return;
         }
@@ -99,7 +141,7 @@ public class HashMap<K, V> {
         while (current != null) {
             if (Objects.equals(current.key, key)) {
                 if (prev == null) {
-                    buckets[index] = current.next;
+                    table[index] = current.next;
                 } else {
                     prev.next = current.next;
                 }
@@ -129,32 +171,73 @@ public class HashMap<K, V> {
     @SuppressWarnings("unchecked")
     public void clear() {
         buckets = (Node<K, V>[]) new Node[capacity];
+        oldBuckets = null;
         size = 0;
     }
 
     public DynamicArray<K> keys() {
         DynamicArray<K> keys = new DynamicArray<>();
-        for (int i = 0; i < buckets.length; i++) {
-            Node<K, V> current = buckets[i];
+        appendKeys(buckets, 0, keys);
+        if (oldBuckets != null) {
+            appendKeys(oldBuckets, migrated, keys);
+        }
+        return keys;
+    }
+
+    private static <K, V> void appendKeys(Node<K, V>[] table, int from, DynamicArray<K> keys) {
+        for (int i = from; i < table.length; i++) {
+            Node<K, V> current = table[i];
             while (current != null) {
                 keys.append(current.key);
                 current = current.next;
             }
         }
-        return keys;
     }
 
+    // Doubles the table. The entries are moved right away, or a few buckets per operation
+    // from now on in incremental mode.
     @SuppressWarnings("unchecked")
     private void resize() {
-        Node<K, V>[] oldBuckets = buckets;
+        // Past the largest table the chains just get longer
+        if (capacity == Hashing.MAX_CAPACITY) {
+            resizeThreshold = Integer.MAX_VALUE;
+            return;
+        }
+        // Never the case with MIGRATION_STEP buckets moved per operation, but only one old
+        // table can be tracked
+        if (oldBuckets != null) {
+            migrate(oldBuckets.length);
+        }
+        oldBuckets = buckets;
+        migrated = 0;
         capacity *= 2;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
         buckets = (Node<K, V>[]) new Node[capacity];
-        size = 0;
-        for (Node<K, V> node : oldBuckets) {
+        if (!incrementalResize) {
+            migrate(oldBuckets.length);
+        }
+    }
+
+    // Moves up to count old buckets into the current table, relinking the existing nodes
+    // instead of allocating new ones
+    private void migrate(int count) {
+        if (oldBuckets == null) {
+            return;
+        }
+        int end = Math.min(oldBuckets.length, migrated + count);
+        for (; migrated < end; migrated++) {
+            Node<K, V> node = oldBuckets[migrated];
+            oldBuckets[migrated] = null;
             while (node != null) {
-                insert(node.key, node.value);
-                node = node.next;
+                Node<K, V> next = node.next;
+                int index = hash(node.key, buckets);
+                node.next = buckets[index];
+                buckets[index] = node;
+                node = next;
             }
         }
+        if (migrated == oldBuckets.length) {
+            oldBuckets = null;
+        }
     }
-}
\ No newline at end of file
+}
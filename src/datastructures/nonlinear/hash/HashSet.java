@@ -20,33 +20,70 @@ public class HashSet<T> {
 
     private static final int DEFAULT_SIZE = 16;
     private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+    // Same incremental resize as HashMap: old buckets moved per operation while it runs
+    private static final int MIGRATION_STEP = 8;
     private Node<T>[] buckets;
+    // Always a power of two, see Hashing
     private int capacity;
+    // Largest size before the table grows: capacity * LOAD_FACTOR_THRESHOLD
+    private int resizeThreshold;
     private int size;
+    // Set while an incremental resize is in progress: buckets [0, migrated) of the previous
+    // table have been moved to buckets, the rest still hold their elements
+    private Node<T>[] oldBuckets;
+    private int migrated;
+    private final boolean incrementalResize;
 
-    @SuppressWarnings("unchecked")
     public HashSet() {
-        this.capacity = DEFAULT_SIZE;
-        this.buckets = (Node<T>[]) new Node[DEFAULT_SIZE];
+        this(false);
+    }
+
+    public HashSet(boolean incrementalResize) {
+        this(0, incrementalResize);
+    }
+
+    // Sized up front for expectedSize elements, which then go in without any resize
+    public HashSet(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    // With incrementalResize, growing the table keeps both tables live and moves a few
+    // buckets per following operation instead of every element at once
+    @SuppressWarnings("unchecked")
+    public HashSet(int expectedSize, boolean incrementalResize) {
+        this.capacity = Hashing.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD, DEFAULT_SIZE);
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
+        this.buckets = (Node<T>[]) new Node[capacity];
         this.size = 0;
+        this.incrementalResize = incrementalResize;
     }
 
-    private int hash(T element) {
+    private int hash(T element, Node<T>[] table) {
         if (element == null) {
             return 0;
         }
-        return Math.floorMod(element.hashCode(), capacity);
+        return Hashing.spread(element.hashCode()) & (table.length - 1);
+    }
+
+    // The table holding the element's bucket: the old one until that bucket has been migrated
+    private Node<T>[] tableFor(T element) {
+        if (oldBuckets != null && hash(element, oldBuckets) >= migrated) {
+            return oldBuckets;
+        }
+        return buckets;
     }
 
     public void add(T element) {
         if (element == null) {
             throw new IllegalArgumentException("Element cannot be null");
         }
-        if ((double) (size + 1) / capacity > LOAD_FACTOR_THRESHOLD) {
+        if (size + 1 > resizeThreshold) {
             resize();
         }
-        int index = hash(element);
-        Node<T> current = buckets[index];
+        migrate(MIGRATION_STEP);
+        Node<T>[] table = tableFor(element);
+        int index = hash(element, table);
+        Node<T> current = table[index];
         Node<T> prev = null;
 
         while (current != null) {
@@ -59,7 +96,7 @@ public class HashSet<T> {
 
         Node<T> newNode = new Node<>(element);
         if (prev == null) {
-            buckets[index] = newNode;
+            table[index] = newNode;
         } else {
             prev.next = newNode;
         }
@@ -70,8 +107,9 @@ public class HashSet<T> {
         if (element == null) {
             throw new IllegalArgumentException("Element cannot be null");
         }
-        int index = hash(element);
-        Node<T> current = buckets[index];
+        migrate(MIGRATION_STEP);
+        Node<T>[] table = tableFor(element);
+        Node<T> current = table[hash(element, table)];
 
         while (current != null) {
             if (Objects.equals(current.element, element)) {
@@ -86,8 +124,10 @@ public class HashSet<T> {
         if (element == null) {
             throw new IllegalArgumentException("Element cannot be null");
         }
-        int index = hash(element);
-        Node<T> current = buckets[index];
+        migrate(MIGRATION_STEP);
+        Node<T>[] table = tableFor(element);
+        int index = hash(element, table);
+        Node<T> current = table[index];
         if (current == null) {
             return;
         }
@@ -96,7 +136,7 @@ public class HashSet<T> {
         while (current != null) {
             if (Objects.equals(current.element, element)) {
                 if (prev == null) {
-                    buckets[index] = current.next;
+                    table[index] = current.next;
                 } else {
                     prev.next = current.next;
                 }
@@ -119,32 +159,73 @@ public class HashSet<T> {
     @SuppressWarnings("unchecked")
     public void clear() {
         buckets = (Node<T>[]) new Node[capacity];
+        oldBuckets = null;
         size = 0;
     }
 
     public DynamicArray<T> elements() {
         DynamicArray<T> elements = new DynamicArray<>();
-        for (int i = 0; i < buckets.length; i++) {
-            Node<T> current = buckets[i];
+        appendElements(buckets, 0, elements);
+        if (oldBuckets != null) {
+            appendElements(oldBuckets, migrated, elements);
+        }
+        return elements;
+    }
+
+    private static <T> void appendElements(Node<T>[] table, int from, DynamicArray<T> elements) {
+        for (int i = from; i < table.length; i++) {
+            Node<T> current = table[i];
             while (current != null) {
                 elements.append(current.element);
                 current = current.next;
             }
         }
-        return elements;
     }
 
+    // Doubles the table. The elements are moved right away, or a few buckets per operation
+    // from now on in incremental mode.
     @SuppressWarnings("unchecked")
     private void resize() {
-        Node<T>[] oldBuckets = buckets;
+        // Past the largest table the chains just get longer
+        if (capacity == Hashing.MAX_CAPACITY) {
+            resizeThreshold = Integer.MAX_VALUE;
+            return;
+        }
+        // Never the case with MIGRATION_STEP buckets moved per operation, but only one old
+        // table can be tracked
+        if (oldBuckets != null) {
+            migrate(oldBuckets.length);
+        }
+        oldBuckets = buckets;
+        migrated = 0;
         capacity *= 2;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
         buckets = (Node<T>[]) new Node[capacity];
-        size = 0;
-        for (Node<T> node : oldBuckets) {
+        if (!incrementalResize) {
+            migrate(oldBuckets.length);
+        }
+    }
+
+    // Moves up to count old buckets into the current table, relinking the existing nodes
+    // instead of allocating new ones
+    private void migrate(int count) {
+        if (oldBuckets == null) {
+            return;
+        }
+        int end = Math.min(oldBuckets.length, migrated + count);
+        for (; migrated < end; migrated++) {
+            Node<T> node = oldBuckets[migrated];
+            oldBuckets[migrated] = null;
             while (node != null) {
-                add(node.element);
-                node = node.next;
+                Node<T> next = node.next;
+                int index = hash(node.element, buckets);
+                node.next = buckets[index];
+                buckets[index] = node;
+                node = next;
             }
         }
+        if (migrated == oldBuckets.length) {
+            oldBuckets = null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package datastructures.nonlinear.hash;
+
+// Shared by the hash tables of this package. Every table has a power-of-two capacity, so
+// the bucket of a hash is hash & (capacity - 1): a single AND instead of the integer
+// division of a modulo. The mask only keeps the low bits, which is why every hashCode goes
+// through spread first.
+final class Hashing {
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {
+    }
+
+    // Finalizer of MurmurHash3: every input bit flips each output bit with probability about
+    // 1/2, so keys that differ only in their high bits (multiples of a power of two, packed
+    // IDs) or by a small stride still land in unrelated buckets
+    static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    // Finalizer of MurmurHash3's 64-bit variant, for long keys; the low bits that pick the
+    // bucket depend on all 64 bits of the key
+    static int spread(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    // Smallest power-of-two capacity, at least minimumCapacity, that holds expectedSize
+    // entries without going over the load factor
+    static int capacityFor(int expectedSize, double loadFactor, int minimumCapacity) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        double needed = Math.ceil(expectedSize / loadFactor);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        }
+        int capacity = minimumCapacity;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,151 @@
+package datastructures.nonlinear.hash;
+
+// HashSet specialized for int elements, stored unboxed in a single int[]. Same open
+// addressing scheme as IntObjectHashMap.
+//
+// A 0 in the table marks an empty slot, so the element 0 itself is kept in a flag outside
+// the table.
+public class IntHashSet {
+    private static final int DEFAULT_SIZE = 16;
+    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+
+    private int[] slots;
+    private boolean containsZero;
+    // capacity - 1, the capacity being a power of two
+    private int mask;
+    // Largest number of table elements before the table grows
+    private int resizeThreshold;
+    // Elements in the table, not counting 0
+    private int tableSize;
+
+    public IntHashSet() {
+        this(0);
+    }
+
+    // Sized up front for expectedSize elements, which then go in without any resize
+    public IntHashSet(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD, DEFAULT_SIZE));
+        this.tableSize = 0;
+    }
+
+    private int homeSlot(int element) {
+        return Hashing.spread(element) & mask;
+    }
+
+    public void add(int element) {
+        if (element == 0) {
+            containsZero = true;
+            return;
+        }
+        int slot = homeSlot(element);
+        while (slots[slot] != 0) {
+            if (slots[slot] == element) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (tableSize + 1 > resizeThreshold) {
+            resize();
+            slot = homeSlot(element);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        slots[slot] = element;
+        tableSize++;
+    }
+
+    public boolean contains(int element) {
+        if (element == 0) {
+            return containsZero;
+        }
+        return find(element) >= 0;
+    }
+
+    public void remove(int element) {
+        if (element == 0) {
+            containsZero = false;
+            return;
+        }
+        int slot = find(element);
+        if (slot < 0) {
+            return;
+        }
+
+        // Backward shift, as in IntObjectHashMap.remove
+        int next = (slot + 1) & mask;
+        while (slots[next] != 0) {
+            if (((next - homeSlot(slots[next])) & mask) >= ((next - slot) & mask)) {
+                slots[slot] = slots[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[slot] = 0;
+        tableSize--;
+    }
+
+    public int size() {
+        return tableSize + (containsZero ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        allocate(slots.length);
+        containsZero = false;
+        tableSize = 0;
+    }
+
+    public int[] elements() {
+        int[] result = new int[size()];
+        int count = 0;
+        if (containsZero) {
+            result[count++] = 0;
+        }
+        for (int element : slots) {
+            if (element != 0) {
+                result[count++] = element;
+            }
+        }
+        return result;
+    }
+
+    // Slot holding the (non-zero) element, or -1
+    private int find(int element) {
+        int slot = homeSlot(element);
+        while (slots[slot] != 0) {
+            if (slots[slot] == element) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
+    }
+
+    private void resize() {
+        if (slots.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Set cannot grow beyond " + Hashing.MAX_CAPACITY + " slots");
+        }
+        int[] oldSlots = slots;
+        allocate(slots.length * 2);
+        for (int element : oldSlots) {
+            if (element != 0) {
+                int slot = homeSlot(element);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = element;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package datastructures.nonlinear.hash;
+
+// HashMap specialized for int keys: the keys sit in an int[] next to the values, so nothing
+// is boxed on the way in or out and there is no object per entry. Open addressing with
+// linear probing over power-of-two tables; removal shifts the following entries back
+// instead of leaving tombstones, as in RobinHoodHashMap.
+//
+// Values cannot be null, like in HashMap, which lets a null value mark an empty slot and
+// every int, 0 included, be a key.
+public class IntObjectHashMap<V> {
+    private static final int DEFAULT_SIZE = 16;
+    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+
+    private int[] keys;
+    private Object[] values;
+    // capacity - 1, the capacity being a power of two
+    private int mask;
+    // Largest size before the table grows: capacity * LOAD_FACTOR_THRESHOLD
+    private int resizeThreshold;
+    private int size;
+
+    public IntObjectHashMap() {
+        this(0);
+    }
+
+    // Sized up front for expectedSize entries, which then go in without any resize
+    public IntObjectHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD, DEFAULT_SIZE));
+        this.size = 0;
+    }
+
+    private int homeSlot(int key) {
+        return Hashing.spread(key) & mask;
+    }
+
+    public void insert(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        int slot = homeSlot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size + 1 > resizeThreshold) {
+            resize();
+            slot = homeSlot(key);
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    public void remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return;
+        }
+
+        // Backward shift: move each following entry into the hole unless the hole is before
+        // its home slot, until an empty slot ends the run
+        int next = (slot + 1) & mask;
+        while (values[next] != null) {
+            if (((next - homeSlot(keys[next])) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[slot] = null;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        size = 0;
+    }
+
+    public int[] keys() {
+        int[] result = new int[size];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] != null) {
+                result[count++] = keys[slot];
+            }
+        }
+        return result;
+    }
+
+    // Slot holding the key, or -1
+    private int find(int key) {
+        int slot = homeSlot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
+    }
+
+    private void resize() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map cannot grow beyond " + Hashing.MAX_CAPACITY + " slots");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = homeSlot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
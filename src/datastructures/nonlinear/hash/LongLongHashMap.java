@@ -0,0 +1,192 @@
+package datastructures.nonlinear.hash;
+
+// HashMap specialized for long keys and long values, both stored unboxed in parallel
+// long[] arrays: 16 bytes per slot and no object per entry. Same open addressing scheme as
+// IntObjectHashMap. Suited to counters and ID-to-ID mappings; addTo updates a counter with
+// a single probe.
+//
+// A 0 key in the table marks an empty slot, so the entry for key 0 itself is kept in two
+// fields outside the table.
+public class LongLongHashMap {
+    private static final int DEFAULT_SIZE = 16;
+    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+
+    private long[] keys;
+    private long[] values;
+    private boolean containsZeroKey;
+    private long zeroKeyValue;
+    // capacity - 1, the capacity being a power of two
+    private int mask;
+    // Largest number of table entries before the table grows
+    private int resizeThreshold;
+    // Entries in the table, not counting key 0
+    private int tableSize;
+
+    public LongLongHashMap() {
+        this(0);
+    }
+
+    // Sized up front for expectedSize entries, which then go in without any resize
+    public LongLongHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD, DEFAULT_SIZE));
+        this.tableSize = 0;
+    }
+
+    private int homeSlot(long key) {
+        return Hashing.spread(key) & mask;
+    }
+
+    public void insert(long key, long value) {
+        if (key == 0) {
+            containsZeroKey = true;
+            zeroKeyValue = value;
+            return;
+        }
+        // Not values[slotFor(key)]: the array reference would be read before slotFor resizes
+        int slot = slotFor(key);
+        values[slot] = value;
+    }
+
+    // Adds delta to the key's value, starting from 0 for a new key, and returns the result
+    public long addTo(long key, long delta) {
+        if (key == 0) {
+            zeroKeyValue = containsZeroKey ? zeroKeyValue + delta : delta;
+            containsZeroKey = true;
+            return zeroKeyValue;
+        }
+        int slot = slotFor(key);
+        values[slot] += delta;
+        return values[slot];
+    }
+
+    // The value of the key, or defaultValue if it is absent
+    public long get(long key, long defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroKeyValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public void remove(long key) {
+        if (key == 0) {
+            containsZeroKey = false;
+            zeroKeyValue = 0;
+            return;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return;
+        }
+
+        // Backward shift, as in IntObjectHashMap.remove
+        int next = (slot + 1) & mask;
+        while (keys[next] != 0) {
+            if (((next - homeSlot(keys[next])) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[slot] = 0;
+        values[slot] = 0;
+        tableSize--;
+    }
+
+    public int size() {
+        return tableSize + (containsZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return containsZeroKey;
+        }
+        return find(key) >= 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        containsZeroKey = false;
+        zeroKeyValue = 0;
+        tableSize = 0;
+    }
+
+    public long[] keys() {
+        long[] result = new long[size()];
+        int count = 0;
+        if (containsZeroKey) {
+            result[count++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[count++] = key;
+            }
+        }
+        return result;
+    }
+
+    // Slot of the (non-zero) key, claiming an empty one with value 0 if the key is absent
+    private int slotFor(long key) {
+        int slot = homeSlot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (tableSize + 1 > resizeThreshold) {
+            resize();
+            slot = homeSlot(key);
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        keys[slot] = key;
+        tableSize++;
+        return slot;
+    }
+
+    // Slot holding the (non-zero) key, or -1
+    private int find(long key) {
+        int slot = homeSlot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
+    }
+
+    private void resize() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map cannot grow beyond " + Hashing.MAX_CAPACITY + " slots");
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = homeSlot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package datastructures.nonlinear.hash;
+
+import datastructures.linear.array.DynamicArray;
+
+// Open-addressing counterpart of HashMap with the same API. Entries live in three parallel
+// arrays (keys, values and each key's hash) instead of a Node per entry: 12 bytes per slot
+// with compressed references, against a 24-byte node per entry plus the bucket array, and a
+// lookup walks adjacent slots instead of following pointers.
+//
+// Collisions are resolved by linear probing with Robin Hood displacement: an entry being
+// inserted takes the slot of any entry that sits closer to its home slot, which keeps every
+// probe sequence short even at high load, and lets a lookup for a missing key stop as soon
+// as it meets an entry closer to home than itself. Removal shifts the following entries one
+// slot back instead of leaving a tombstone, so lookups never slow down after deletes.
+public class RobinHoodHashMap<K, V> {
+    private static final int DEFAULT_SIZE = 16;
+    // Robin Hood probing keeps probe sequences short well beyond the 0.75 of chaining
+    private static final double LOAD_FACTOR_THRESHOLD = 0.875;
+
+    // A slot is empty when its key is null; hashes[i] caches the hash of keys[i] so probing
+    // and resizing never call hashCode and equals is only called on a full hash match
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // capacity - 1, the capacity being a power of two
+    private int mask;
+    // Largest size before the table grows: capacity * LOAD_FACTOR_THRESHOLD
+    private int resizeThreshold;
+    private int size;
+
+    public RobinHoodHashMap() {
+        this(0);
+    }
+
+    // Sized up front for expectedSize entries, which then go in without any resize
+    public RobinHoodHashMap(int expectedSize) {
+        allocate(Hashing.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD, DEFAULT_SIZE));
+        this.size = 0;
+    }
+
+    // Linear probing needs well-spread home slots even more than chaining does
+    private static int hash(Object key) {
+        return Hashing.spread(key.hashCode());
+    }
+
+    private int homeSlot(int hash) {
+        return hash & mask;
+    }
+
+    // How far the entry with this hash sits from its home slot
+    private int probeDistance(int hash, int slot) {
+        return (slot - homeSlot(hash)) & mask;
+    }
+
+    public void insert(K key, V value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Key and value cannot be null");
+        }
+        int hash = hash(key);
+        int slot = find(key, hash);
+        if (slot >= 0) {
+            values[slot] = value;
+            return;
+        }
+        if (size + 1 > resizeThreshold) {
+            resize();
+        }
+        place(key, value, hash);
+        size++;
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int slot = find(key, hash(key));
+        return slot >= 0 ? value(slot) : null;
+    }
+
+    public void remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int slot = find(key, hash(key));
+        if (slot < 0) {
+            return;
+        }
+
+        // Backward shift: pull each following displaced entry one slot closer to home, until
+        // an empty slot or an entry already at home ends the run
+        int next = (slot + 1) & mask;
+        while (keys[next] != null && probeDistance(hashes[next], next) != 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            hashes[slot] = hashes[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        return find(key, hash(key)) >= 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public DynamicArray<K> keys() {
+        DynamicArray<K> result = new DynamicArray<>();
+        for (Object key : keys) {
+            if (key != null) {
+                result.append((K) key);
+            }
+        }
+        return result;
+    }
+
+    // Slot holding the key, or -1. The probe stops at an empty slot or at an entry closer to
+    // its home than the key would be at that slot: Robin Hood insertion would have placed
+    // the key there.
+    private int find(Object key, int hash) {
+        int slot = homeSlot(hash);
+        for (int distance = 0; ; distance++) {
+            Object current = keys[slot];
+            if (current == null || probeDistance(hashes[slot], slot) < distance) {
+                return -1;
+            }
+            if (hashes[slot] == hash && current.equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // Inserts a key known to be absent, with room guaranteed. Whenever the entry being placed
+    // is further from home than the slot's occupant, they swap and the occupant moves on.
+    private void place(Object key, Object value, int hash) {
+        int slot = homeSlot(hash);
+        int distance = 0;
+        while (keys[slot] != null) {
+            int occupantDistance = probeDistance(hashes[slot], slot);
+            if (occupantDistance < distance) {
+                Object displacedKey = keys[slot];
+                Object displacedValue = values[slot];
+                int displacedHash = hashes[slot];
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                distance = occupantDistance;
+            }
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) values[slot];
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR_THRESHOLD);
+    }
+
+    // Moves every entry into a table twice the size, reusing the cached hashes
+    private void resize() {
+        if (keys.length == Hashing.MAX_CAPACITY) {
+            throw new IllegalStateException("Map cannot grow beyond " + Hashing.MAX_CAPACITY + " slots");
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                place(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+}
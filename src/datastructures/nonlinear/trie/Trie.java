@@ -2,15 +2,16 @@ package datastructures.nonlinear.trie;
 
 import datastructures.linear.array.DynamicArray;
 import datastructures.linear.stack.LinkedStack;
-import datastructures.nonlinear.hash.HashMap;
+import datastructures.nonlinear.hash.IntObjectHashMap;
 
 public class Trie {
     private static class Node {
-        private final HashMap<Character, Node> children;
+        // Keyed by the char itself, widened to int, so lookups do not box
+        private final IntObjectHashMap<Node> children;
         private boolean isWord;
 
         public Node() {
-            this.children = new HashMap<>();
+            this.children = new IntObjectHashMap<>();
             this.isWord = false;
         }
     }
@@ -88,9 +89,9 @@ public class Trie {
             words.append(currentWord);
         }
 
-        for (char key : node.children.keys().toArray(new Character[0])) {
+        for (int key : node.children.keys()) {
             Node childNode = node.children.get(key);
-            collectWords(childNode, currentWord + key, words);
+            collectWords(childNode, currentWord + (char) key, words);
         }
     }
 
@@ -0,0 +1,104 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BinarySearchTest {
+    static Stream<Arguments> inputs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int length : SearchTesting.LENGTHS) {
+            arguments.add(Arguments.of(length, false));
+            arguments.add(Arguments.of(length, true));
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void primitiveSearchMatchesArraysBinarySearch(int length, boolean duplicates) {
+        int[] ints = SearchTesting.sortedInts(length, duplicates);
+        long[] longs = SearchTesting.sortedLongs(length, duplicates);
+        for (int query : SearchTesting.queries(ints)) {
+            int result = BinarySearch.search(ints, query);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(ints, query, result), query + " gave " + result);
+
+            long target = query * 1_000_003L;
+            result = BinarySearch.search(longs, target);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(longs, target, result), target + " gave " + result);
+        }
+    }
+
+    // Every key, gap and end in ascending order: at least one query per element, so the
+    // batch is swept
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchAllSweepsSortedQueries(int length, boolean duplicates) {
+        int[] sorted = SearchTesting.sortedInts(length, duplicates);
+        assertSearchAll(sorted, SearchTesting.queries(sorted));
+    }
+
+    // The same queries shuffled, so the batch takes the interleaved descent, including a
+    // last group shorter than the rest
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchAllInterleavesUnsortedQueries(int length, boolean duplicates) {
+        int[] sorted = SearchTesting.sortedInts(length, duplicates);
+        List<Integer> shuffled = new ArrayList<>(Arrays.stream(SearchTesting.queries(sorted)).boxed().toList());
+        Collections.shuffle(shuffled, new Random(length));
+        assertSearchAll(sorted, shuffled.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    // Sorted but too few queries for a sweep, which also go through the interleaved descent
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchAllInterleavesSparseSortedQueries(int length, boolean duplicates) {
+        int[] sorted = SearchTesting.sortedInts(length, duplicates);
+        int[] all = SearchTesting.queries(sorted);
+        int[] sparse = new int[Math.max(1, length / 64)];
+        for (int i = 0; i < sparse.length; i++) {
+            sparse[i] = all[(int) ((long) i * all.length / sparse.length)];
+        }
+        assertSearchAll(sorted, sparse);
+    }
+
+    @Test
+    void searchAllFillsOnlyTheQueriesOfALargerOutput() {
+        Integer[] sorted = { 1, 3, 5 };
+        int[] out = { 7, 7, 7, 7 };
+        BinarySearch.searchAll(sorted, new Integer[] { 3, 4 }, out);
+        assertArrayEquals(new int[] { 1, -3, 7, 7 }, out);
+    }
+
+    @Test
+    void searchAllRejectsAShortOutput() {
+        Integer[] sorted = { 1, 2, 3 };
+        assertThrows(IllegalArgumentException.class,
+                () -> BinarySearch.searchAll(sorted, new Integer[] { 1, 2 }, new int[1]));
+    }
+
+    private static void assertSearchAll(int[] sorted, int[] queries) {
+        int[] expected = new int[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            expected[i] = SearchTesting.firstMatch(sorted, queries[i]);
+        }
+        Integer[] boxedQueries = SearchTesting.boxed(queries);
+        int[] out = new int[queries.length];
+        BinarySearch.searchAll(SearchTesting.boxed(sorted), boxedQueries, out);
+        assertArrayEquals(expected, out);
+        // The queries are left as they were
+        assertArrayEquals(SearchTesting.boxed(queries), boxedQueries);
+    }
+}
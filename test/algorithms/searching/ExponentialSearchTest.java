@@ -0,0 +1,41 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ExponentialSearchTest {
+    static Stream<Arguments> inputs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int length : SearchTesting.LENGTHS) {
+            arguments.add(Arguments.of(length, false));
+            arguments.add(Arguments.of(length, true));
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchMatchesBinarySearch(int length, boolean duplicates) {
+        int[] ints = SearchTesting.sortedInts(length, duplicates);
+        long[] longs = SearchTesting.sortedLongs(length, duplicates);
+        Integer[] boxed = SearchTesting.boxed(ints);
+        for (int query : SearchTesting.queries(ints)) {
+            int result = ExponentialSearch.search(ints, query);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(ints, query, result), query + " gave " + result);
+
+            result = ExponentialSearch.search(boxed, query);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(ints, query, result), query + " gave " + result);
+
+            long target = query * 1_000_003L;
+            result = ExponentialSearch.search(longs, target);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(longs, target, result), target + " gave " + result);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class EytzingerIndexTest {
+    static Stream<Arguments> inputs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int length : SearchTesting.LENGTHS) {
+            arguments.add(Arguments.of(length, false));
+            arguments.add(Arguments.of(length, true));
+        }
+        return arguments.stream();
+    }
+
+    // Matches Arrays.binarySearch on hits and misses, and finds the first of equal keys
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchMatchesBinarySearch(int length, boolean duplicates) {
+        int[] sorted = SearchTesting.sortedInts(length, duplicates);
+        EytzingerIndex<Integer> index = EytzingerIndex.of(SearchTesting.boxed(sorted));
+        assertEquals(length, index.size());
+        for (int query : SearchTesting.queries(sorted)) {
+            assertEquals(SearchTesting.firstMatch(sorted, query), index.search(query), "query " + query);
+        }
+    }
+
+    // Every length up to a few tree levels, so each shape of last level is covered
+    @ParameterizedTest
+    @MethodSource("everyLength")
+    void searchFindsEveryKeyAtAnyLength(int length) {
+        int[] sorted = SearchTesting.sortedInts(length, false);
+        EytzingerIndex<Integer> index = EytzingerIndex.of(SearchTesting.boxed(sorted));
+        for (int query : SearchTesting.queries(sorted)) {
+            assertEquals(SearchTesting.firstMatch(sorted, query), index.search(query), "query " + query);
+        }
+    }
+
+    static Stream<Arguments> everyLength() {
+        return IntStream.rangeClosed(0, 130).mapToObj(Arguments::of);
+    }
+}
@@ -0,0 +1,90 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class InterpolationSearchTest {
+    static Stream<Arguments> inputs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int length : SearchTesting.LENGTHS) {
+            arguments.add(Arguments.of(length, false));
+            arguments.add(Arguments.of(length, true));
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchMatchesBinarySearch(int length, boolean duplicates) {
+        int[] ints = SearchTesting.sortedInts(length, duplicates);
+        for (int query : SearchTesting.queries(ints)) {
+            int result = InterpolationSearch.search(ints, query);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(ints, query, result), query + " gave " + result);
+        }
+
+        long[] longs = SearchTesting.sortedLongs(length, duplicates);
+        for (int query : SearchTesting.queries(ints)) {
+            long target = query * 1_000_003L;
+            int result = InterpolationSearch.search(longs, target);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(longs, target, result), target + " gave " + result);
+            // Misses between two keys, which the interpolation lands next to
+            result = InterpolationSearch.search(longs, target + 1);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(longs, target + 1, result),
+                    target + 1 + " gave " + result);
+        }
+    }
+
+    // Keys that grow exponentially mislead every guess; the search must still be right once
+    // it falls back to binary search
+    @Test
+    void searchesSkewedKeys() {
+        long[] longs = new long[62];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = 1L << i;
+        }
+        int[] ints = Arrays.stream(longs).limit(31).mapToInt(value -> (int) value).toArray();
+        for (int shift = 0; shift < 63; shift++) {
+            for (long target : new long[] { (1L << shift) - 1, 1L << shift, (1L << shift) + 1 }) {
+                int result = InterpolationSearch.search(longs, target);
+                assertTrue(SearchTesting.isMatchOrInsertionPoint(longs, target, result), target + " gave " + result);
+                if (target <= Integer.MAX_VALUE) {
+                    result = InterpolationSearch.search(ints, (int) target);
+                    assertTrue(SearchTesting.isMatchOrInsertionPoint(ints, (int) target, result),
+                            target + " gave " + result);
+                }
+            }
+        }
+    }
+
+    // Differences between the ends overflow an int or a long
+    @Test
+    void searchesAcrossTheWholeRange() {
+        Random random = new Random(18);
+        int[] ints = random.ints(10_000).sorted().toArray();
+        ints[0] = Integer.MIN_VALUE;
+        ints[ints.length - 1] = Integer.MAX_VALUE;
+        long[] longs = random.longs(10_000).sorted().toArray();
+        longs[0] = Long.MIN_VALUE;
+        longs[longs.length - 1] = Long.MAX_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            int intTarget = random.nextBoolean() ? ints[random.nextInt(ints.length)] : random.nextInt();
+            int result = InterpolationSearch.search(ints, intTarget);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(ints, intTarget, result), intTarget + " gave " + result);
+
+            long longTarget = random.nextBoolean() ? longs[random.nextInt(longs.length)] : random.nextLong();
+            result = InterpolationSearch.search(longs, longTarget);
+            assertTrue(SearchTesting.isMatchOrInsertionPoint(longs, longTarget, result),
+                    longTarget + " gave " + result);
+        }
+    }
+}
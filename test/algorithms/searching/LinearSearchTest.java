@@ -0,0 +1,134 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+// The primitive scans: through LinearSearch, straight into the Vector API kernels, and the
+// fallback loops, which LinearSearch never reaches here since the tests run with the module.
+// Lengths run past several vector widths and SWAR words, so every lane position and tail
+// length is covered.
+// Then the parallel searches, which must agree with the sequential one.
+class LinearSearchTest {
+    static Stream<Arguments> lengths() {
+        return IntStream.rangeClosed(0, 200).mapToObj(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void intSearchFindsEveryPosition(int length) {
+        int[] array = IntStream.range(0, length).map(i -> i * 3 + 1).toArray();
+        for (int i = 0; i < length; i++) {
+            assertEquals(i, LinearSearch.search(array, array[i]));
+            assertEquals(i, VectorizedSearch.search(array, array[i]));
+            assertEquals(i, LinearSearch.scalarSearch(array, array[i]));
+        }
+        assertEquals(-1, LinearSearch.search(array, 0));
+        assertEquals(-1, VectorizedSearch.search(array, 0));
+        assertEquals(-1, LinearSearch.scalarSearch(array, 0));
+
+        // With repeats the first one wins, including a repeat in the same vector
+        int[] repeated = new int[length];
+        for (int i = 0; i < length; i++) {
+            Arrays.fill(repeated, 0);
+            Arrays.fill(repeated, i, Math.min(length, i + 3), 7);
+            assertEquals(i, LinearSearch.search(repeated, 7));
+            assertEquals(i, VectorizedSearch.search(repeated, 7));
+            assertEquals(i, LinearSearch.scalarSearch(repeated, 7));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void longSearchFindsEveryPosition(int length) {
+        // Values that only differ in the high half, so comparing 32 bits would not do
+        long[] array = IntStream.range(0, length).mapToLong(i -> ((long) i << 32) | 5).toArray();
+        for (int i = 0; i < length; i++) {
+            assertEquals(i, LinearSearch.search(array, array[i]));
+            assertEquals(i, VectorizedSearch.search(array, array[i]));
+            assertEquals(i, LinearSearch.scalarSearch(array, array[i]));
+        }
+        assertEquals(-1, LinearSearch.search(array, 5L | (1L << 63)));
+        assertEquals(-1, VectorizedSearch.search(array, 5L | (1L << 63)));
+        assertEquals(-1, LinearSearch.scalarSearch(array, 5L | (1L << 63)));
+    }
+
+    // Every byte value as the target, placed at every position among bytes that differ from
+    // it by one bit or by the sign bit, where a sloppy SWAR or signed compare would misfire
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void byteSearchFindsEveryPosition(int length) {
+        for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value += length % 7 + 1) {
+            byte target = (byte) value;
+            byte[] array = new byte[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (byte) (target ^ (i % 2 == 0 ? 0x01 : 0x80));
+            }
+            assertEquals(-1, LinearSearch.search(array, target));
+            assertEquals(-1, VectorizedSearch.search(array, target));
+            assertEquals(-1, LinearSearch.swarSearch(array, target));
+            for (int i = 0; i < length; i++) {
+                byte previous = array[i];
+                array[i] = target;
+                assertEquals(i, LinearSearch.search(array, target));
+                assertEquals(i, VectorizedSearch.search(array, target));
+                assertEquals(i, LinearSearch.swarSearch(array, target));
+                array[i] = previous;
+            }
+        }
+    }
+
+    // Above PARALLEL_THRESHOLD the ranges are scanned concurrently; the result is still the
+    // first match, wherever the later ones sit relative to the task boundaries
+    @ParameterizedTest
+    @MethodSource("matchPositions")
+    void parallelSearchReturnsTheFirstMatch(int first) {
+        int length = 8 * LinearSearch.PARALLEL_THRESHOLD;
+        Integer[] array = new Integer[length];
+        Arrays.setAll(array, i -> i % 1_000 == 999 ? null : -i - 1);
+        if (first >= 0) {
+            array[first] = 42;
+            // Later matches in every range, so several tasks find one
+            for (int i = first + 1; i < length; i += LinearSearch.PARALLEL_THRESHOLD / 2) {
+                array[i] = 42;
+            }
+        }
+        assertEquals(first, LinearSearch.parallelSearch(array, 42));
+        assertEquals(first, LinearSearch.findFirst(array, element -> element != null && element == 42));
+        assertEquals(LinearSearch.search(array, 42), LinearSearch.parallelSearch(array, 42));
+    }
+
+    static Stream<Arguments> matchPositions() {
+        int threshold = LinearSearch.PARALLEL_THRESHOLD;
+        return IntStream.of(-1, 0, 1, threshold - 1, threshold, threshold + 1, 4 * threshold,
+                8 * threshold - 1).mapToObj(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("lengths")
+    void parallelSearchMatchesNullsAndSmallArrays(int length) {
+        Integer[] array = new Integer[length];
+        Arrays.setAll(array, i -> i % 3 == 2 ? null : i);
+        assertEquals(LinearSearch.search(array, (Integer) null), LinearSearch.parallelSearch(array, null));
+        for (int i = 0; i < length; i++) {
+            assertEquals(LinearSearch.search(array, array[i]), LinearSearch.parallelSearch(array, array[i]));
+        }
+        assertEquals(-1, LinearSearch.parallelSearch(array, -1));
+    }
+
+    @Test
+    void parallelSearchFindsNullInALargeArray() {
+        Integer[] array = new Integer[4 * LinearSearch.PARALLEL_THRESHOLD];
+        Arrays.setAll(array, i -> i);
+        array[3 * LinearSearch.PARALLEL_THRESHOLD + 5] = null;
+        assertEquals(3 * LinearSearch.PARALLEL_THRESHOLD + 5, LinearSearch.parallelSearch(array, null));
+        assertEquals(-1, LinearSearch.findFirst(array, element -> element != null && element < 0));
+    }
+}
@@ -0,0 +1,69 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LongEytzingerIndexTest {
+    static Stream<Arguments> inputs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (int length : SearchTesting.LENGTHS) {
+            arguments.add(Arguments.of(length, false));
+            arguments.add(Arguments.of(length, true));
+        }
+        return arguments.stream();
+    }
+
+    // Matches Arrays.binarySearch on hits and misses, and finds the first of equal keys
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchMatchesBinarySearch(int length, boolean duplicates) {
+        long[] sorted = SearchTesting.sortedLongs(length, duplicates);
+        LongEytzingerIndex index = LongEytzingerIndex.of(sorted);
+        assertEquals(length, index.size());
+        for (long key : sorted) {
+            for (long query = key - 1; query <= key + 1; query++) {
+                assertEquals(SearchTesting.firstMatch(sorted, query), index.search(query), "query " + query);
+            }
+        }
+        assertEquals(-1, index.search(Long.MIN_VALUE));
+        assertEquals(-(length + 1), index.search(Long.MAX_VALUE));
+    }
+
+    // Every length up to a few tree levels, so each shape of last level is covered
+    @ParameterizedTest
+    @MethodSource("everyLength")
+    void searchFindsEveryKeyAtAnyLength(int length) {
+        long[] sorted = SearchTesting.sortedLongs(length, false);
+        LongEytzingerIndex index = LongEytzingerIndex.of(sorted);
+        for (long key : sorted) {
+            for (long query = key - 1; query <= key + 1; query++) {
+                assertEquals(SearchTesting.firstMatch(sorted, query), index.search(query), "query " + query);
+            }
+        }
+    }
+
+    static Stream<Arguments> everyLength() {
+        return IntStream.rangeClosed(0, 130).mapToObj(Arguments::of);
+    }
+
+    // Keys at both ends of the long range, where a subtraction-based compare would overflow
+    @Test
+    void searchHandlesExtremeKeys() {
+        long[] sorted = { Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+        LongEytzingerIndex index = LongEytzingerIndex.of(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(i, index.search(sorted[i]));
+        }
+        assertEquals(-3, index.search(-2));
+        assertEquals(-6, index.search(2));
+    }
+}
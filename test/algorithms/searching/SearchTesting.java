@@ -0,0 +1,83 @@
+package algorithms.searching;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// Sorted inputs and expected results shared by the search tests
+final class SearchTesting {
+    // Lengths around powers of two, where the tree and gallop shapes change
+    static final int[] LENGTHS = { 0, 1, 2, 3, 4, 7, 8, 9, 15, 16, 17, 31, 32, 33, 100, 1_000, 1_023, 1_024, 1_025 };
+
+    private SearchTesting() {
+    }
+
+    // Sorted even keys; with duplicates, each key repeats a random number of times. Every odd
+    // number between and around them is a miss.
+    static int[] sortedInts(int length, boolean duplicates) {
+        Random random = new Random(length);
+        int[] array = new int[length];
+        int key = -length;
+        for (int i = 0; i < length; i++) {
+            array[i] = 2 * key;
+            if (!duplicates || random.nextInt(3) == 0) {
+                key++;
+            }
+        }
+        return array;
+    }
+
+    static long[] sortedLongs(int length, boolean duplicates) {
+        return Arrays.stream(sortedInts(length, duplicates)).mapToLong(value -> value * 1_000_003L).toArray();
+    }
+
+    static Integer[] boxed(int[] array) {
+        return Arrays.stream(array).boxed().toArray(Integer[]::new);
+    }
+
+    // Every key in the array, each gap between keys, and both ends
+    static int[] queries(int[] sorted) {
+        int low = sorted.length == 0 ? -2 : sorted[0] - 2;
+        int high = sorted.length == 0 ? 2 : sorted[sorted.length - 1] + 2;
+        return IntStream.rangeClosed(low, high).toArray();
+    }
+
+    // What Arrays.binarySearch returns, except that with duplicates it is always the index of
+    // the first equal element
+    static int firstMatch(int[] sorted, int target) {
+        int index = Arrays.binarySearch(sorted, target);
+        if (index < 0) {
+            return index;
+        }
+        while (index > 0 && sorted[index - 1] == target) {
+            index--;
+        }
+        return index;
+    }
+
+    static int firstMatch(long[] sorted, long target) {
+        int index = Arrays.binarySearch(sorted, target);
+        if (index < 0) {
+            return index;
+        }
+        while (index > 0 && sorted[index - 1] == target) {
+            index--;
+        }
+        return index;
+    }
+
+    // Either the index of some element equal to the target, or the same miss as Arrays.binarySearch
+    static boolean isMatchOrInsertionPoint(int[] sorted, int target, int result) {
+        if (result >= 0) {
+            return result < sorted.length && sorted[result] == target;
+        }
+        return result == Arrays.binarySearch(sorted, target);
+    }
+
+    static boolean isMatchOrInsertionPoint(long[] sorted, long target, int result) {
+        if (result >= 0) {
+            return result < sorted.length && sorted[result] == target;
+        }
+        return result == Arrays.binarySearch(sorted, target);
+    }
+}
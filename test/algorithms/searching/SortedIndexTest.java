@@ -0,0 +1,112 @@
+package algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SortedIndexTest {
+    private static final int[] MAX_ERRORS = { 0, 1, 4, SortedIndex.DEFAULT_MAX_ERROR, 64 };
+
+    enum Keys {
+        // Sequential IDs, one segment
+        DENSE,
+        // A steady stride with gaps for misses
+        STRIDED,
+        // Uniform over the whole long range, MIN_VALUE and MAX_VALUE included
+        UNIFORM,
+        // Exponentially growing gaps, which need many segments
+        SKEWED,
+        // Short runs of duplicates
+        DUPLICATES,
+        // Runs longer than any max error, which end their segment
+        LONG_RUNS
+    }
+
+    static Stream<Arguments> inputs() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Keys keys : Keys.values()) {
+            for (int length : new int[] { 0, 1, 2, 10, 1_000, 20_000 }) {
+                for (int maxError : MAX_ERRORS) {
+                    arguments.add(Arguments.of(keys, length, maxError));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    // Hits, the neighbours of every key and random misses give the same result as a binary
+    // search of the array for the first equal key
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void searchMatchesBinarySearch(Keys shape, int length, int maxError) {
+        long[] keys = keys(shape, length);
+        SortedIndex index = SortedIndex.build(keys, maxError);
+        assertEquals(length, index.size());
+        // Measured after fitting, so rounding may add a position at most
+        assertTrue(index.maxError() <= maxError + 1, index.maxError() + " over " + maxError);
+
+        for (long key : keys) {
+            assertSearch(keys, index, key);
+            assertSearch(keys, index, key - 1);
+            assertSearch(keys, index, key + 1);
+        }
+        Random random = new Random(length);
+        for (int i = 0; i < 1_000; i++) {
+            assertSearch(keys, index, random.nextLong());
+        }
+        assertSearch(keys, index, Long.MIN_VALUE);
+        assertSearch(keys, index, Long.MAX_VALUE);
+    }
+
+    @Test
+    void fitsEvenlySpacedKeysInOneSegment() {
+        long[] keys = LongStream.range(0, 100_000).map(i -> 1_000 + 7 * i).toArray();
+        assertEquals(1, SortedIndex.build(keys).segmentCount());
+        assertEquals(1, SortedIndex.build(keys, 0).segmentCount());
+    }
+
+    @Test
+    void rejectsANegativeMaxError() {
+        assertThrows(IllegalArgumentException.class, () -> SortedIndex.build(new long[] { 1, 2 }, -1));
+    }
+
+    private static void assertSearch(long[] keys, SortedIndex index, long key) {
+        assertEquals(SearchTesting.firstMatch(keys, key), index.search(key), "key " + key);
+    }
+
+    private static long[] keys(Keys shape, int length) {
+        Random random = new Random(31L * length + shape.ordinal());
+        long[] keys = new long[length];
+        switch (shape) {
+            case DENSE -> Arrays.setAll(keys, i -> i);
+            case STRIDED -> Arrays.setAll(keys, i -> -5_000_000L + 10L * i);
+            case UNIFORM -> {
+                Arrays.setAll(keys, i -> random.nextLong());
+                if (length >= 2) {
+                    keys[0] = Long.MIN_VALUE;
+                    keys[1] = Long.MAX_VALUE;
+                }
+                Arrays.sort(keys);
+            }
+            case SKEWED -> Arrays.setAll(keys, i -> (long) Math.pow(1.001, i) + i);
+            case DUPLICATES -> {
+                Arrays.setAll(keys, i -> random.nextInt(Math.max(1, length / 3)));
+                Arrays.sort(keys);
+            }
+            case LONG_RUNS -> Arrays.setAll(keys, i -> 1_000L * (i / 100) + (i % 100 < 90 ? 0 : i % 100));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,93 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+// The Comparator overloads of every object sorter, with an order no Sort.Order gives:
+// by key modulo 10, then by key descending
+class ComparatorSortTest {
+    private static final Comparator<Keyed> COMPARATOR = Comparator
+            .<Keyed>comparingInt(keyed -> Math.floorMod(keyed.key(), 10))
+            .thenComparing(Comparator.comparingInt(Keyed::key).reversed());
+    // The quadratic sorters skip the largest length
+    private static final int QUADRATIC_MAX_LENGTH = 1_000;
+
+    record Sorter(String name, boolean stable, boolean quadratic, BiConsumer<Keyed[], Comparator<Keyed>> sort) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static final List<Sorter> SORTERS = List.of(
+            new Sorter("BubbleSort", true, true, BubbleSort::sort),
+            new Sorter("InsertionSort", true, true, InsertionSort::sort),
+            new Sorter("SelectionSort", false, true, SelectionSort::sort),
+            new Sorter("MergeSort", true, false, MergeSort::sort),
+            new Sorter("MergeSort.parallelSort", true, false, (array, comparator) -> MergeSort.parallelSort(array,
+                    comparator, 16)),
+            new Sorter("MergeSort.adaptiveSort", true, false, MergeSort::adaptiveSort),
+            new Sorter("QuickSort", false, false, QuickSort::sort),
+            new Sorter("QuickSort.introSort", false, false, QuickSort::introSort),
+            new Sorter("HeapSort", false, false, HeapSort::sort),
+            new Sorter("HeapSort.BOTTOM_UP", false, false, (array, comparator) -> HeapSort.sort(array, comparator,
+                    HeapSort.Variant.BOTTOM_UP)),
+            new Sorter("HeapSort.QUATERNARY", false, false, (array, comparator) -> HeapSort.sort(array, comparator,
+                    HeapSort.Variant.QUATERNARY)),
+            new Sorter("SampleSort", false, false, SampleSort::sort));
+
+    static Stream<Arguments> cases() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Sorter sorter : SORTERS) {
+            for (Shape shape : Shape.values()) {
+                for (int length : SortTesting.LENGTHS) {
+                    if (!sorter.quadratic() || length <= QUADRATIC_MAX_LENGTH) {
+                        arguments.add(Arguments.of(sorter, shape, length));
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void sortsByTheComparator(Sorter sorter, Shape shape, int length) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        sorter.sort().accept(array, COMPARATOR);
+        if (sorter.stable()) {
+            assertSorted(input, array, COMPARATOR);
+        } else {
+            assertSortedIgnoringPosition(input, array);
+        }
+    }
+
+    // Checks the keys come out in comparator order. Elements with equal keys are only
+    // told apart by position, which an unstable sort is free to shuffle.
+    private static void assertSortedIgnoringPosition(Keyed[] input, Keyed[] actual) {
+        Keyed[] expected = input.clone();
+        Arrays.sort(expected, COMPARATOR);
+        assertArrayEquals(Arrays.stream(expected).mapToInt(Keyed::key).toArray(),
+                Arrays.stream(actual).mapToInt(Keyed::key).toArray());
+        Comparator<Keyed> byPosition = Comparator.comparingInt(Keyed::position);
+        Arrays.sort(expected, byPosition);
+        Keyed[] sorted = actual.clone();
+        Arrays.sort(sorted, byPosition);
+        assertArrayEquals(expected, sorted);
+    }
+}
@@ -0,0 +1,194 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+class ExternalSortTest {
+    // Keeps the position, so the merged output can be checked for stability
+    private static final ExternalSort.RecordCodec<Keyed> KEYED_CODEC = new ExternalSort.RecordCodec<>() {
+        @Override
+        public int encodedSize(Keyed record) {
+            return 2 * Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Keyed record, ByteBuffer buffer) {
+            buffer.putInt(record.key()).putInt(record.position());
+        }
+
+        @Override
+        public Keyed decode(ByteBuffer buffer) {
+            return new Keyed(buffer.getInt(), buffer.getInt());
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sortsInMemoryWhenEverythingFits() throws IOException {
+        Long[] input = Arrays.stream(SortTesting.longs(Shape.RANDOM, 1_000)).boxed().toArray(Long[]::new);
+        ExternalSort<Long> sorter = new ExternalSort<>(ExternalSort.LONG_CODEC, 1L << 20, directory);
+        List<Long> output = new ArrayList<>();
+        sorter.sort(Arrays.asList(input).iterator(), output::add, Sort.Order.ASCENDING);
+
+        assertSorted(input, output.toArray(Long[]::new), Sort.Order.ASCENDING);
+        assertEquals(0, sorter.runsSpilled());
+        assertEquals(0, sorter.bytesSpilled());
+        assertNoRunFilesLeft();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Sort.Order.class)
+    void spillsAndMergesRuns(Sort.Order order) throws IOException {
+        Long[] input = Arrays.stream(SortTesting.longs(Shape.RANDOM, 10_000)).boxed().toArray(Long[]::new);
+        // 12 bytes a record with the length prefix, so about 8 runs
+        ExternalSort<Long> sorter = new ExternalSort<>(ExternalSort.LONG_CODEC, 15_000, directory);
+        List<Long> output = new ArrayList<>();
+        sorter.sort(Arrays.asList(input).iterator(), output::add, order);
+
+        assertSorted(input, output.toArray(Long[]::new), order);
+        assertTrue(sorter.runsSpilled() > 1);
+        assertNoRunFilesLeft();
+    }
+
+    // More runs than can be merged at once, so they go through intermediate merge passes
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    void mergesInSeveralPassesAndStaysStable(Shape shape) throws IOException {
+        Keyed[] input = SortTesting.keyed(shape, 20_000);
+        // 12 bytes a record with the length prefix, so 100 records and one run per 1200 bytes
+        ExternalSort<Keyed> sorter = new ExternalSort<>(KEYED_CODEC, 1_200, directory);
+        List<Keyed> output = new ArrayList<>();
+        sorter.sort(Arrays.asList(input).iterator(), output::add, Sort.Order.DESCENDING);
+
+        assertSorted(input, output.toArray(Keyed[]::new), Sort.Order.DESCENDING);
+        // 200 spilled runs, plus the runs written by the intermediate pass
+        assertTrue(sorter.runsSpilled() > 200);
+        assertNoRunFilesLeft();
+    }
+
+    // Records larger than the 64 KiB I/O buffer, mixed with small ones
+    @Test
+    void sortsRecordsLargerThanTheIoBuffer() throws IOException {
+        Random random = new Random(5);
+        List<String> input = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            int length = i % 3 == 0 ? 70_000 + random.nextInt(70_000) : random.nextInt(100);
+            char[] chars = new char[length];
+            for (int j = 0; j < length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            input.add(new String(chars));
+        }
+        // Multi-byte UTF-8 survives the round trip too
+        input.add("été");
+        input.add("");
+
+        ExternalSort<String> sorter = new ExternalSort<>(ExternalSort.STRING_CODEC, 300_000, directory);
+        List<String> output = new ArrayList<>();
+        sorter.sort(input.iterator(), output::add, Comparator.naturalOrder());
+
+        List<String> expected = new ArrayList<>(input);
+        Collections.sort(expected);
+        assertEquals(expected, output);
+        assertTrue(sorter.runsSpilled() > 1);
+        assertNoRunFilesLeft();
+    }
+
+    @Test
+    void sortsEmptyInput() throws IOException {
+        ExternalSort<Long> sorter = new ExternalSort<>(ExternalSort.LONG_CODEC, 100, directory);
+        List<Long> output = new ArrayList<>();
+        sorter.sort(Collections.<Long>emptyIterator(), output::add, Sort.Order.ASCENDING);
+        assertTrue(output.isEmpty());
+    }
+
+    @Test
+    void rejectsNullRecordsAndCleansUp() {
+        List<Long> input = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            input.add(i);
+        }
+        // After a few runs have been spilled
+        input.add(null);
+        ExternalSort<Long> sorter = new ExternalSort<>(ExternalSort.LONG_CODEC, 100, directory);
+        assertThrows(IllegalArgumentException.class,
+                () -> sorter.sort(input.iterator(), record -> { }, Sort.Order.ASCENDING));
+        assertNoRunFilesLeft();
+    }
+
+    // The codec fails on its nth encode: while a chunk is spilled, and later while a merge
+    // pass writes a longer run. The run file being written is deleted along with the others.
+    @ParameterizedTest
+    @ValueSource(ints = { 50, 1_050 })
+    void cleansUpWhenTheCodecThrows(int failingEncode) {
+        int[] encodes = new int[1];
+        ExternalSort.RecordCodec<Long> failing = new ExternalSort.RecordCodec<>() {
+            @Override
+            public int encodedSize(Long record) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long record, ByteBuffer buffer) {
+                if (++encodes[0] == failingEncode) {
+                    throw new IllegalStateException("Encode " + failingEncode);
+                }
+                buffer.putLong(record);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+        // About 9 records per run, so 1,000 records spill more runs than one merge takes
+        Iterator<Long> input = Arrays.stream(SortTesting.longs(Shape.RANDOM, 1_000)).boxed().iterator();
+        ExternalSort<Long> sorter = new ExternalSort<>(failing, 100, directory);
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> sorter.sort(input, record -> { }, Sort.Order.ASCENDING));
+        assertEquals("Encode " + failingEncode, thrown.getMessage());
+        assertNoRunFilesLeft();
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort<>(null, 100, directory));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort<>(ExternalSort.LONG_CODEC, 100, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSort<>(ExternalSort.LONG_CODEC, 0, directory));
+    }
+
+    private void assertNoRunFilesLeft() {
+        try (Stream<Path> files = Files.list(directory)) {
+            assertArrayEquals(new Path[0], files.toArray(Path[]::new));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
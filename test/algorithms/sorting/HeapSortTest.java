@@ -0,0 +1,90 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static algorithms.sorting.SortTesting.assertSortedKeys;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+class HeapSortTest {
+    // Every variant, shape, length and order
+    static Stream<Arguments> variants() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (HeapSort.Variant variant : HeapSort.Variant.values()) {
+            SortTesting.inputs().forEach(input -> {
+                Object[] values = input.get();
+                arguments.add(Arguments.of(variant, values[0], values[1], values[2]));
+            });
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("variants")
+    void sortsObjects(HeapSort.Variant variant, Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        HeapSort.sort(array, order, variant);
+        assertSortedKeys(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("variants")
+    void sortsPrimitives(HeapSort.Variant variant, Shape shape, int length, Sort.Order order) {
+        int[] ints = SortTesting.ints(shape, length);
+        int[] intArray = ints.clone();
+        HeapSort.sort(intArray, order, variant);
+        assertSorted(ints, intArray, order);
+
+        long[] longs = SortTesting.longs(shape, length);
+        long[] longArray = longs.clone();
+        HeapSort.sort(longArray, order, variant);
+        assertSorted(longs, longArray, order);
+
+        double[] doubles = SortTesting.doubles(shape, length);
+        double[] doubleArray = doubles.clone();
+        HeapSort.sort(doubleArray, order, variant);
+        assertSorted(doubles, doubleArray, order);
+    }
+
+    // The range overloads QuickSort falls back to leave everything outside the range alone
+    @Test
+    void sortsOnlyTheRange() {
+        int[] ints = SortTesting.ints(Shape.RANDOM, 1_000);
+        int[] array = ints.clone();
+        HeapSort.sort(array, 100, 900, false);
+        int[] expected = ints.clone();
+        Arrays.sort(expected, 100, 900);
+        assertArrayEquals(expected, array);
+
+        Integer[] boxed = SortTesting.boxed(ints);
+        Integer[] boxedArray = boxed.clone();
+        HeapSort.sort(boxedArray, 100, 900, Sort.<Integer>comparator(Sort.Order.DESCENDING));
+        Integer[] boxedExpected = boxed.clone();
+        Arrays.sort(boxedExpected, 100, 900, Sort.<Integer>comparator(Sort.Order.DESCENDING));
+        assertArrayEquals(boxedExpected, boxedArray);
+    }
+
+    // The point of the bottom-up variant: close to half the comparisons of the textbook heap
+    @Test
+    void bottomUpTakesFewerComparisons() {
+        Integer[] input = SortTesting.boxed(SortTesting.ints(Shape.RANDOM, 100_000));
+        long binary = SortStats.record(() -> HeapSort.sort(input.clone(), Sort.Order.ASCENDING,
+                HeapSort.Variant.BINARY)).comparisons();
+        long bottomUp = SortStats.record(() -> HeapSort.sort(input.clone(), Sort.Order.ASCENDING,
+                HeapSort.Variant.BOTTOM_UP)).comparisons();
+        assertTrue(bottomUp < binary * 0.7, bottomUp + " against " + binary);
+    }
+}
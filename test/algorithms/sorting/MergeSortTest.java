@@ -0,0 +1,134 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+class MergeSortTest {
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void sortIsStable(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        MergeSort.sort(array, order);
+        assertSorted(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void parallelSortIsStable(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        // A small threshold so even the short inputs are split into tasks
+        MergeSort.parallelSort(array, order, 4);
+        assertSorted(input, array, order);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 100, MergeSort.DEFAULT_PARALLEL_THRESHOLD })
+    void parallelSortMatchesSortForAnyThreshold(int threshold) {
+        Integer[] input = SortTesting.boxed(SortTesting.ints(Shape.RANDOM, 50_000));
+        Integer[] array = input.clone();
+        MergeSort.parallelSort(array, Sort.Order.ASCENDING, threshold);
+        assertSorted(input, array, Sort.Order.ASCENDING);
+    }
+
+    @Test
+    void parallelSortRejectsNonPositiveThreshold() {
+        Integer[] array = { 2, 1 };
+        assertThrows(IllegalArgumentException.class, () -> MergeSort.parallelSort(array, Sort.Order.ASCENDING, 0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void adaptiveSortIsStable(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        MergeSort.adaptiveSort(array, order);
+        assertSorted(input, array, order);
+    }
+
+    // Ascending, descending and flat runs of random lengths with repeated keys, so short runs
+    // get extended, descending runs get reversed and the merge policy sees uneven runs
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 4, 5, 6, 7, 8 })
+    void adaptiveSortIsStableOnMixedRuns(int seed) {
+        Random random = new Random(seed);
+        Keyed[] input = new Keyed[20_000];
+        int i = 0;
+        while (i < input.length) {
+            int runLength = Math.min(input.length - i, 1 + random.nextInt(random.nextBoolean() ? 8 : 500));
+            int key = random.nextInt(1_000);
+            int step = random.nextInt(3) - 1;
+            for (int j = 0; j < runLength; j++, i++) {
+                input[i] = new Keyed(key, i);
+                // Repeat a key now and then, so runs are not strictly monotonic
+                if (random.nextInt(4) != 0) {
+                    key += step;
+                }
+            }
+        }
+        for (Sort.Order order : Sort.Order.values()) {
+            Keyed[] array = input.clone();
+            MergeSort.adaptiveSort(array, order);
+            assertSorted(input, array, order);
+        }
+    }
+
+    // Two long runs whose keys interleave in blocks, so one side keeps winning and the merge
+    // switches to galloping, then falls back when the blocks change sides
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 6, 7, 8, 50, 1_000 })
+    void adaptiveSortGallopsStably(int blockLength) {
+        int half = 10_000;
+        Keyed[] input = new Keyed[2 * half];
+        for (int i = 0; i < half; i++) {
+            int block = i / blockLength;
+            // Even blocks in the left run, odd ones in the right, with keys shared at the edges
+            input[i] = new Keyed(2 * block * blockLength + i % blockLength, i);
+            input[half + i] = new Keyed((2 * block + 1) * blockLength + i % blockLength - 1, half + i);
+        }
+        for (Sort.Order order : Sort.Order.values()) {
+            Keyed[] array = input.clone();
+            MergeSort.adaptiveSort(array, order);
+            assertSorted(input, array, order);
+        }
+    }
+
+    @Test
+    void adaptiveSortAcceptsAComparator() {
+        Keyed[] input = SortTesting.keyed(Shape.SORTED_RUNS, 5_000);
+        Keyed[] array = input.clone();
+        Comparator<Keyed> byKeyDescending = Comparator.comparingInt(Keyed::key).reversed();
+        MergeSort.adaptiveSort(array, byKeyDescending);
+        assertSorted(input, array, byKeyDescending);
+    }
+
+    // The prefix overload ExternalSort uses: the rest of the chunk is left alone, and the
+    // buffer only covers the prefix
+    @Test
+    void sortsOnlyThePrefix() {
+        Keyed[] input = SortTesting.keyed(Shape.RANDOM, 1_000);
+        Keyed[] array = input.clone();
+        Comparator<Keyed> byKey = Comparator.comparingInt(Keyed::key);
+        SortStats stats = SortStats.record(() -> MergeSort.sort(array, 300, byKey));
+        assertEquals(300L * SortStats.REFERENCE_BYTES, stats.scratchBytes());
+
+        Keyed[] expected = input.clone();
+        Arrays.sort(expected, 0, 300, byKey);
+        assertArrayEquals(expected, array);
+    }
+}
@@ -0,0 +1,113 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import algorithms.sorting.SortTesting.Shape;
+
+// The int[], long[] and double[] overloads of every comparison sorter
+class PrimitiveSortTest {
+    // The quadratic sorters skip the largest length
+    private static final int QUADRATIC_MAX_LENGTH = 1_000;
+
+    record Sorter(String name, boolean quadratic, BiConsumer<int[], Sort.Order> ints,
+            BiConsumer<long[], Sort.Order> longs, BiConsumer<double[], Sort.Order> doubles) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    static final List<Sorter> SORTERS = List.of(
+            new Sorter("BubbleSort", true, BubbleSort::sort, BubbleSort::sort, BubbleSort::sort),
+            new Sorter("SelectionSort", true, SelectionSort::sort, SelectionSort::sort, SelectionSort::sort),
+            new Sorter("InsertionSort", true, InsertionSort::sort, InsertionSort::sort, InsertionSort::sort),
+            new Sorter("HeapSort", false, HeapSort::sort, HeapSort::sort, HeapSort::sort),
+            new Sorter("QuickSort", false, QuickSort::sort, QuickSort::sort, QuickSort::sort),
+            new Sorter("MergeSort", false, MergeSort::sort, MergeSort::sort, MergeSort::sort));
+
+    static Stream<Arguments> cases() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Sorter sorter : SORTERS) {
+            SortTesting.inputs()
+                    .filter(input -> !sorter.quadratic() || (int) input.get()[1] <= QUADRATIC_MAX_LENGTH)
+                    .forEach(input -> {
+                        Object[] values = input.get();
+                        arguments.add(Arguments.of(sorter, values[0], values[1], values[2]));
+                    });
+        }
+        return arguments.stream();
+    }
+
+    static Stream<Arguments> sorters() {
+        return SORTERS.stream().map(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void sortsInts(Sorter sorter, Shape shape, int length, Sort.Order order) {
+        int[] input = SortTesting.ints(shape, length);
+        int[] array = input.clone();
+        sorter.ints().accept(array, order);
+        assertSorted(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void sortsLongs(Sorter sorter, Shape shape, int length, Sort.Order order) {
+        long[] input = SortTesting.longs(shape, length);
+        long[] array = input.clone();
+        sorter.longs().accept(array, order);
+        assertSorted(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("cases")
+    void sortsDoubles(Sorter sorter, Shape shape, int length, Sort.Order order) {
+        double[] input = SortTesting.doubles(shape, length);
+        double[] array = input.clone();
+        sorter.doubles().accept(array, order);
+        assertSorted(input, array, order);
+    }
+
+    // Same total order as Arrays.sort: -0.0 before 0.0, NaN after +Infinity
+    @ParameterizedTest
+    @MethodSource("sorters")
+    void doublesFollowTheTotalOrder(Sorter sorter) {
+        double[] special = { Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.NaN, 0.0, -0.0 };
+        double[] input = new double[special.length * 10];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = special[(i * 7) % special.length];
+        }
+        for (Sort.Order order : Sort.Order.values()) {
+            double[] array = input.clone();
+            sorter.doubles().accept(array, order);
+            assertSorted(input, array, order);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("sorters")
+    void extremeValues(Sorter sorter) {
+        int[] ints = { Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MIN_VALUE, Integer.MAX_VALUE };
+        long[] longs = { Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE };
+        for (Sort.Order order : Sort.Order.values()) {
+            int[] intArray = ints.clone();
+            sorter.ints().accept(intArray, order);
+            assertSorted(ints, intArray, order);
+
+            long[] longArray = longs.clone();
+            sorter.longs().accept(longArray, order);
+            assertSorted(longs, longArray, order);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static algorithms.sorting.SortTesting.assertSortedKeys;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+class QuickSortTest {
+    // Deep enough that recursing into both sides of a bad split would overflow the stack
+    private static final int LARGE = 200_000;
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void introSortSorts(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        QuickSort.introSort(array, order);
+        assertSortedKeys(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void sortSorts(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        QuickSort.sort(array, order);
+        assertSortedKeys(input, array, order);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    void largeInputsOfEveryShape(Shape shape) {
+        int[] ints = SortTesting.ints(shape, LARGE);
+        Integer[] boxed = SortTesting.boxed(ints);
+        QuickSort.sort(boxed, Sort.Order.ASCENDING);
+        assertSorted(SortTesting.boxed(ints), boxed, Sort.Order.ASCENDING);
+
+        int[] array = ints.clone();
+        QuickSort.sort(array, Sort.Order.DESCENDING);
+        assertSorted(ints, array, Sort.Order.DESCENDING);
+
+        long[] longs = SortTesting.longs(shape, LARGE);
+        long[] longArray = longs.clone();
+        QuickSort.sort(longArray, Sort.Order.ASCENDING);
+        assertSorted(longs, longArray, Sort.Order.ASCENDING);
+
+        double[] doubles = SortTesting.doubles(shape, LARGE);
+        double[] doubleArray = doubles.clone();
+        QuickSort.sort(doubleArray, Sort.Order.ASCENDING);
+        assertSorted(doubles, doubleArray, Sort.Order.ASCENDING);
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectInputs")
+    void selectPartitionsAroundK(Shape shape, int length, Sort.Order order) {
+        Integer[] input = SortTesting.boxed(SortTesting.ints(shape, length));
+        Integer[] expected = input.clone();
+        Arrays.sort(expected, Sort.comparator(order));
+        // Every k for the short inputs, a spread of them for the long ones
+        int step = Math.max(1, length / 50);
+        for (int k = 0; k < length; k += step) {
+            Integer[] array = input.clone();
+            assertEquals(expected[k], QuickSort.select(array, k, order));
+            assertEquals(expected[k], array[k]);
+            for (int i = 0; i < length; i++) {
+                int comparison = Sort.compare(array[i], array[k], order);
+                assertTrue(i < k ? comparison <= 0 : comparison >= 0, "index " + i + " against k " + k);
+            }
+            // Still a permutation of the input
+            Arrays.sort(array, Sort.comparator(order));
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("selectInputs")
+    void partialSortSortsThePrefix(Shape shape, int length, Sort.Order order) {
+        Integer[] input = SortTesting.boxed(SortTesting.ints(shape, length));
+        Integer[] expected = input.clone();
+        Arrays.sort(expected, Sort.comparator(order));
+        for (int k : new int[] { 0, 1, 2, length / 3, length - 1, length }) {
+            if (k > length) {
+                continue;
+            }
+            Integer[] array = input.clone();
+            QuickSort.partialSort(array, k, order);
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(array, k), "k " + k);
+            // The rest is still the remaining elements, in any order
+            Integer[] rest = Arrays.copyOfRange(array, k, length);
+            Arrays.sort(rest, Sort.comparator(order));
+            assertArrayEquals(Arrays.copyOfRange(expected, k, length), rest, "k " + k);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    void selectOnLargeInputs(Shape shape) {
+        Integer[] input = SortTesting.boxed(SortTesting.ints(shape, LARGE));
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+        for (int k : new int[] { 0, LARGE / 2, LARGE - 1 }) {
+            assertEquals(expected[k], QuickSort.select(input.clone(), k, Sort.Order.ASCENDING));
+        }
+    }
+
+    @Test
+    void selectAndPartialSortRejectOutOfBoundsIndexes() {
+        Integer[] array = { 3, 1, 2 };
+        assertThrows(IllegalArgumentException.class, () -> QuickSort.select(array, -1, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> QuickSort.select(array, 3, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> QuickSort.partialSort(array, -1, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> QuickSort.partialSort(array, 4, Sort.Order.ASCENDING));
+    }
+
+    static Stream<Arguments> selectInputs() {
+        return SortTesting.inputs(1, 2, 3, 7, 16, 17, 33, 100, 1_000, 10_000);
+    }
+}
@@ -0,0 +1,88 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+class RadixSortTest {
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void sortsInts(Shape shape, int length, Sort.Order order) {
+        int[] input = SortTesting.ints(shape, length);
+        int[] array = input.clone();
+        RadixSort.sort(array, order);
+        assertSorted(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void sortsLongs(Shape shape, int length, Sort.Order order) {
+        long[] input = SortTesting.longs(shape, length);
+        long[] array = input.clone();
+        RadixSort.sort(array, order);
+        assertSorted(input, array, order);
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void sortByKeyIsStable(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        RadixSort.sort(array, Keyed::key, order);
+        assertSorted(input, array, order);
+    }
+
+    // Digit widths that divide the key evenly, that leave a short last digit, and that take
+    // an odd number of passes (leaving the result in the scratch buffer)
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 5, 8, 11, 16 })
+    void sortsWithAnyDigitWidth(int bitsPerDigit) {
+        for (Sort.Order order : Sort.Order.values()) {
+            int[] ints = SortTesting.ints(Shape.RANDOM, 2_000);
+            int[] intArray = ints.clone();
+            RadixSort.sort(intArray, bitsPerDigit, order);
+            assertSorted(ints, intArray, order);
+
+            long[] longs = SortTesting.longs(Shape.RANDOM, 2_000);
+            long[] longArray = longs.clone();
+            RadixSort.sort(longArray, bitsPerDigit, order);
+            assertSorted(longs, longArray, order);
+
+            Keyed[] keyed = SortTesting.keyed(Shape.FEW_UNIQUE, 2_000);
+            Keyed[] keyedArray = keyed.clone();
+            RadixSort.sort(keyedArray, Keyed::key, bitsPerDigit, order);
+            assertSorted(keyed, keyedArray, order);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 8, 16 })
+    void extremeValues(int bitsPerDigit) {
+        int[] ints = { Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1, Integer.MIN_VALUE + 1, Integer.MAX_VALUE };
+        long[] longs = { Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1, Long.MIN_VALUE + 1, Long.MAX_VALUE };
+        for (Sort.Order order : Sort.Order.values()) {
+            int[] intArray = ints.clone();
+            RadixSort.sort(intArray, bitsPerDigit, order);
+            assertSorted(ints, intArray, order);
+
+            long[] longArray = longs.clone();
+            RadixSort.sort(longArray, bitsPerDigit, order);
+            assertSorted(longs, longArray, order);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -1, 0, 17 })
+    void rejectsInvalidDigitWidth(int bitsPerDigit) {
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(new int[] { 2, 1 }, bitsPerDigit,
+                Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(new long[] { 2, 1 }, bitsPerDigit,
+                Sort.Order.ASCENDING));
+    }
+}
@@ -0,0 +1,136 @@
+package algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import algorithms.sorting.SortTesting.Shape;
+
+class RecordSortTest {
+    // Bytes before the position and after the limit, which the sort must not touch
+    private static final int MARGIN = 3;
+    private static final byte MARGIN_BYTE = (byte) 0xAB;
+
+    // Record layouts: a whole number of longs (copied 8 bytes at a time) and an odd width
+    // with the key in the middle (copied byte-wise)
+    record Layout(int recordWidth, int keyOffset, int positionOffset) {
+    }
+
+    static Stream<Arguments> cases() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Layout layout : List.of(new Layout(16, 0, 8), new Layout(13, 5, 0))) {
+            for (boolean direct : new boolean[] { false, true }) {
+                for (ByteOrder byteOrder : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+                    for (Shape shape : Shape.values()) {
+                        for (int length : new int[] { 0, 1, 2, 100, 10_000 }) {
+                            for (Sort.Order order : Sort.Order.values()) {
+                                arguments.add(Arguments.of(layout, direct, byteOrder, shape, length, order));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    // Sorted by key like RadixSort.sort(long[]), and stable: each record carries its original
+    // position, and equal keys must keep them increasing
+    @ParameterizedTest
+    @MethodSource("cases")
+    void sortsRecordsStably(Layout layout, boolean direct, ByteOrder byteOrder, Shape shape, int length,
+            Sort.Order order) {
+        long[] keys = SortTesting.longs(shape, length);
+        ByteBuffer records = records(layout, direct, byteOrder, keys);
+        RecordSort.sort(records, layout.recordWidth(), layout.keyOffset(), order);
+        assertSortedRecords(layout, records, keys, order);
+    }
+
+    @Test
+    void reusesACallersScratchBuffer() {
+        Layout layout = new Layout(16, 0, 8);
+        ByteBuffer scratch = ByteBuffer.allocateDirect(16 * 1_000);
+        for (Shape shape : Shape.values()) {
+            long[] keys = SortTesting.longs(shape, 1_000);
+            ByteBuffer records = records(layout, false, ByteOrder.BIG_ENDIAN, keys);
+            RecordSort.sort(records, scratch, layout.recordWidth(), layout.keyOffset(), Sort.Order.ASCENDING);
+            assertSortedRecords(layout, records, keys, Sort.Order.ASCENDING);
+        }
+    }
+
+    @Test
+    void rejectsInvalidLayouts() {
+        ByteBuffer records = ByteBuffer.allocate(32);
+        assertThrows(IllegalArgumentException.class, () -> RecordSort.sort(null, 16, 0, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class,
+                () -> RecordSort.sort(records.asReadOnlyBuffer(), 16, 0, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> RecordSort.sort(records, 7, 0, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> RecordSort.sort(records, 16, 9, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> RecordSort.sort(records, 16, -1, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> RecordSort.sort(records, 12, 0, Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class,
+                () -> RecordSort.sort(records, ByteBuffer.allocate(31), 16, 0, Sort.Order.ASCENDING));
+    }
+
+    // The records between MARGIN bytes of filler on each side, with position and limit set
+    // around them
+    private static ByteBuffer records(Layout layout, boolean direct, ByteOrder byteOrder, long[] keys) {
+        int size = keys.length * layout.recordWidth();
+        int capacity = size + 2 * MARGIN;
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        buffer.order(byteOrder);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            buffer.put(i, MARGIN_BYTE);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int record = MARGIN + i * layout.recordWidth();
+            buffer.putLong(record + layout.keyOffset(), keys[i]);
+            buffer.putInt(record + layout.positionOffset(), i);
+        }
+        return buffer.position(MARGIN).limit(MARGIN + size);
+    }
+
+    private static void assertSortedRecords(Layout layout, ByteBuffer records, long[] keys, Sort.Order order) {
+        assertEquals(MARGIN, records.position());
+        assertEquals(MARGIN + keys.length * layout.recordWidth(), records.limit());
+        // Absolute reads stop at the limit, so read the margins through a cleared duplicate
+        ByteBuffer whole = records.duplicate().clear();
+        for (int i = 0; i < MARGIN; i++) {
+            assertEquals(MARGIN_BYTE, whole.get(i));
+            assertEquals(MARGIN_BYTE, whole.get(records.limit() + i));
+        }
+
+        Integer[] expected = new Integer[keys.length];
+        Arrays.setAll(expected, i -> i);
+        Comparator<Integer> byKey = (first, second) -> Sort.compare(keys[first], keys[second], order);
+        // Arrays.sort on objects is stable
+        Arrays.sort(expected, byKey);
+
+        long[] expectedKeys = new long[keys.length];
+        long[] actualKeys = new long[keys.length];
+        int[] expectedPositions = new int[keys.length];
+        int[] actualPositions = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int record = MARGIN + i * layout.recordWidth();
+            expectedKeys[i] = keys[expected[i]];
+            expectedPositions[i] = expected[i];
+            actualKeys[i] = records.getLong(record + layout.keyOffset());
+            actualPositions[i] = records.getInt(record + layout.positionOffset());
+        }
+        assertArrayEquals(expectedKeys, actualKeys);
+        assertArrayEquals(expectedPositions, actualPositions);
+    }
+}
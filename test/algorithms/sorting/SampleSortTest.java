@@ -0,0 +1,96 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSortedKeys;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import algorithms.sorting.SortTesting.Keyed;
+import algorithms.sorting.SortTesting.Shape;
+
+class SampleSortTest {
+    // A pool of its own, so the parallel path runs however many cores the machine has
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @MethodSource("algorithms.sorting.SortTesting#inputs")
+    void sortsSmallInputsSequentially(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        SampleSort.sort(array, order, pool);
+        assertSortedKeys(input, array, order);
+    }
+
+    // Above SEQUENTIAL_THRESHOLD. FEW_UNIQUE and ALL_EQUAL draw repeated splitters, which
+    // switches on the equality buckets.
+    @ParameterizedTest
+    @MethodSource("largeInputs")
+    void sortsLargeInputsInParallel(Shape shape, int length, Sort.Order order) {
+        Keyed[] input = SortTesting.keyed(shape, length);
+        Keyed[] array = input.clone();
+        SampleSort.sort(array, order, pool);
+        assertSortedKeys(input, array, order);
+    }
+
+    // One value makes up most of the input, the rest is spread out, so the sample has both
+    // repeated and distinct splitters
+    @Test
+    void sortsAFrequentValueIntoItsEqualityBucket() {
+        Random random = new Random(9);
+        Keyed[] input = new Keyed[100_000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = new Keyed(random.nextInt(3) == 0 ? random.nextInt() : 12_345, i);
+        }
+        for (Sort.Order order : Sort.Order.values()) {
+            Keyed[] array = input.clone();
+            SampleSort.sort(array, order, pool);
+            assertSortedKeys(input, array, order);
+        }
+    }
+
+    @Test
+    void sortsOnTheCommonPoolAndASingleThreadPool() {
+        Keyed[] input = SortTesting.keyed(Shape.RANDOM, 50_000);
+        Keyed[] array = input.clone();
+        SampleSort.sort(array, Sort.Order.ASCENDING);
+        assertSortedKeys(input, array, Sort.Order.ASCENDING);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            array = input.clone();
+            SampleSort.sort(array, Sort.Order.DESCENDING, single);
+            assertSortedKeys(input, array, Sort.Order.DESCENDING);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsANullPool() {
+        Integer[] array = { 2, 1 };
+        assertThrows(IllegalArgumentException.class, () -> SampleSort.sort(array, Sort.Order.ASCENDING, null));
+    }
+
+    static Stream<Arguments> largeInputs() {
+        return SortTesting.inputs(SampleSort.SEQUENTIAL_THRESHOLD + 1, 100_000);
+    }
+}
@@ -0,0 +1,104 @@
+package algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import algorithms.sorting.SortTesting.Shape;
+
+// Runs with -Dalgorithms.sorting.stats=true, set by the test task
+class SortStatsTest {
+    @Test
+    void statsAreEnabledForTheTests() {
+        assertTrue(SortStats.ENABLED);
+    }
+
+    // A sorted input takes one comparison per neighbouring pair and no swaps
+    @Test
+    void countsComparisonsAndSwaps() {
+        int[] sorted = SortTesting.ints(Shape.SORTED, 1_000);
+        SortStats stats = SortStats.record(() -> InsertionSort.sort(sorted, Sort.Order.ASCENDING));
+        assertEquals(999, stats.comparisons());
+        assertEquals(0, stats.swaps());
+
+        int[] reversed = { 3, 2, 1 };
+        stats = SortStats.record(() -> BubbleSort.sort(reversed, Sort.Order.ASCENDING));
+        assertEquals(3, stats.swaps());
+        assertEquals(3, stats.comparisons());
+    }
+
+    // The counted comparisons are exactly the calls the comparator received, also when the
+    // work is spread over a pool and when one sorter calls into another
+    @Test
+    void countsEveryComparatorCallOnce() {
+        Integer[] input = SortTesting.boxed(SortTesting.ints(Shape.RANDOM, 50_000));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertComparisonsMatch(input, (array, comparator) -> MergeSort.sort(array, comparator));
+            assertComparisonsMatch(input, (array, comparator) -> MergeSort.parallelSort(array, comparator, 1_000));
+            assertComparisonsMatch(input, (array, comparator) -> MergeSort.adaptiveSort(array, comparator));
+            assertComparisonsMatch(input, (array, comparator) -> QuickSort.sort(array, comparator));
+            assertComparisonsMatch(input, (array, comparator) -> HeapSort.sort(array, comparator));
+            assertComparisonsMatch(input, (array, comparator) -> SampleSort.sort(array, comparator, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void tracksRecursionDepth() {
+        int[] array = SortTesting.ints(Shape.RANDOM, 100_000);
+        SortStats stats = SortStats.record(() -> MergeSort.sort(array, Sort.Order.ASCENDING));
+        // At most one level per halving; small ranges are finished without recursing
+        assertTrue(stats.maxRecursionDepth() > 0 && stats.maxRecursionDepth() <= 17, stats.toString());
+
+        // Introsort recurses into the smaller side only, so even sorted input stays shallow
+        Integer[] sorted = SortTesting.boxed(SortTesting.ints(Shape.SORTED, 100_000));
+        stats = SortStats.record(() -> QuickSort.sort(sorted, Sort.Order.ASCENDING));
+        assertTrue(stats.maxRecursionDepth() <= 17, stats.toString());
+    }
+
+    @Test
+    void reportsScratchMemory() {
+        int[] ints = SortTesting.ints(Shape.RANDOM, 1_000);
+        SortStats stats = SortStats.record(() -> MergeSort.sort(ints, Sort.Order.ASCENDING));
+        assertEquals(1_000L * Integer.BYTES, stats.scratchBytes());
+
+        int[] inPlace = SortTesting.ints(Shape.RANDOM, 1_000);
+        stats = SortStats.record(() -> HeapSort.sort(inPlace, Sort.Order.ASCENDING));
+        assertEquals(0, stats.scratchBytes());
+    }
+
+    // A nested recording takes the inner sort's counts; the outer one resumes afterwards
+    @Test
+    void nestedRecordingsAreSeparate() {
+        int[] first = SortTesting.ints(Shape.SORTED, 100);
+        int[] second = SortTesting.ints(Shape.SORTED, 10);
+        SortStats[] inner = new SortStats[1];
+        SortStats outer = SortStats.record(() -> {
+            InsertionSort.sort(first, Sort.Order.ASCENDING);
+            inner[0] = SortStats.record(() -> InsertionSort.sort(second, Sort.Order.ASCENDING));
+        });
+        assertEquals(9, inner[0].comparisons());
+        assertEquals(99, outer.comparisons());
+    }
+
+    private static void assertComparisonsMatch(Integer[] input,
+            BiConsumer<Integer[], Comparator<Integer>> sort) {
+        AtomicLong calls = new AtomicLong();
+        Comparator<Integer> counting = (first, second) -> {
+            calls.incrementAndGet();
+            return Integer.compare(first, second);
+        };
+        Integer[] array = input.clone();
+        SortStats stats = SortStats.record(() -> sort.accept(array, counting));
+        assertTrue(calls.get() > 0);
+        assertEquals(calls.get(), stats.comparisons());
+    }
+}
@@ -0,0 +1,168 @@
+package algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+// Inputs and checks shared by the sorter tests. Every check compares against Arrays.sort of
+// the same input, which covers both sortedness and the output being a permutation of it.
+final class SortTesting {
+    // Lengths around the sorting network and run cutoffs, plus a few large enough to recurse
+    static final int[] LENGTHS = { 0, 1, 2, 3, 7, 15, 16, 17, 31, 32, 33, 100, 1_000, 10_000 };
+
+    enum Shape {
+        RANDOM, SORTED, REVERSED, FEW_UNIQUE, ALL_EQUAL, ORGAN_PIPE, SORTED_RUNS
+    }
+
+    // An element whose order only depends on key; position records where it started, so a
+    // stable sort leaves equal keys in increasing position
+    record Keyed(int key, int position) implements Comparable<Keyed> {
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+    }
+
+    private SortTesting() {
+    }
+
+    // Every shape at every length, in both orders
+    static Stream<Arguments> inputs() {
+        return inputs(LENGTHS);
+    }
+
+    static Stream<Arguments> inputs(int... lengths) {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Shape shape : Shape.values()) {
+            for (int length : lengths) {
+                for (Sort.Order order : Sort.Order.values()) {
+                    arguments.add(Arguments.of(shape, length, order));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    static int[] ints(Shape shape, int length) {
+        Random random = new Random(31L * length + shape.ordinal());
+        int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = switch (shape) {
+                case RANDOM -> random.nextInt();
+                case SORTED -> i;
+                case REVERSED -> length - i;
+                case FEW_UNIQUE -> random.nextInt(4);
+                case ALL_EQUAL -> 7;
+                case ORGAN_PIPE -> Math.min(i, length - i);
+                case SORTED_RUNS -> i % 50 + random.nextInt(3);
+            };
+        }
+        return array;
+    }
+
+    // Same shapes over the whole long range, so the high bits take part
+    static long[] longs(Shape shape, int length) {
+        return Arrays.stream(ints(shape, length)).mapToLong(value -> value * 1_000_003L).toArray();
+    }
+
+    static double[] doubles(Shape shape, int length) {
+        return Arrays.stream(ints(shape, length)).mapToDouble(value -> value / 7.0).toArray();
+    }
+
+    static Integer[] boxed(int[] array) {
+        return Arrays.stream(array).boxed().toArray(Integer[]::new);
+    }
+
+    // Keys of the shape, each tagged with its position
+    static Keyed[] keyed(Shape shape, int length) {
+        int[] keys = ints(shape, length);
+        Keyed[] array = new Keyed[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = new Keyed(keys[i], i);
+        }
+        return array;
+    }
+
+    static void assertSorted(int[] input, int[] actual, Sort.Order order) {
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(expected);
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    static void assertSorted(long[] input, long[] actual, Sort.Order order) {
+        long[] expected = input.clone();
+        Arrays.sort(expected);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(expected);
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    static void assertSorted(double[] input, double[] actual, Sort.Order order) {
+        double[] expected = input.clone();
+        Arrays.sort(expected);
+        if (order == Sort.Order.DESCENDING) {
+            reverse(expected);
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    static <T extends Comparable<T>> void assertSorted(T[] input, T[] actual, Sort.Order order) {
+        assertSorted(input, actual, Sort.<T>comparator(order));
+    }
+
+    // Sorted by the comparator. For Keyed elements this also checks stability, since equal
+    // keys are told apart by position.
+    static <T> void assertSorted(T[] input, T[] actual, Comparator<? super T> comparator) {
+        List<T> expected = new ArrayList<>(Arrays.asList(input));
+        // List.sort is stable
+        expected.sort(comparator);
+        assertArrayEquals(expected.toArray(), actual);
+    }
+
+    // Checks a sort that is not stable: only the keys have to be in order
+    static void assertSortedKeys(Keyed[] input, Keyed[] actual, Sort.Order order) {
+        int[] keys = Arrays.stream(input).mapToInt(Keyed::key).toArray();
+        assertSorted(keys, Arrays.stream(actual).mapToInt(Keyed::key).toArray(), order);
+        List<Keyed> expected = new ArrayList<>(Arrays.asList(input));
+        List<Keyed> sorted = new ArrayList<>(Arrays.asList(actual));
+        Comparator<Keyed> byPosition = Comparator.comparingInt(Keyed::position);
+        expected.sort(byPosition);
+        sorted.sort(byPosition);
+        assertArrayEquals(expected.toArray(), sorted.toArray());
+    }
+
+    private static void reverse(int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            int swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+
+    private static void reverse(long[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            long swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+
+    private static void reverse(double[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            double swap = array[i];
+            array[i] = array[j];
+            array[j] = swap;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package algorithms.sorting;
+
+import static algorithms.sorting.SortTesting.assertSorted;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class SortingNetworkTest {
+    // By the 0-1 principle, a comparator network sorts every input of its size if and only
+    // if it sorts all 2^n inputs of zeros and ones, so this proves each network correct
+    @ParameterizedTest
+    @EnumSource(Sort.Order.class)
+    void sortsEveryZeroOneInput(Sort.Order order) {
+        for (int size = 0; size <= SortingNetwork.MAX_SIZE; size++) {
+            for (int bits = 0; bits < 1 << size; bits++) {
+                int[] ints = new int[size];
+                for (int i = 0; i < size; i++) {
+                    ints[i] = (bits >>> i) & 1;
+                }
+                int[] intArray = ints.clone();
+                SortingNetwork.sort(intArray, order);
+                assertSorted(ints, intArray, order);
+
+                long[] longs = Arrays.stream(ints).asLongStream().toArray();
+                long[] longArray = longs.clone();
+                SortingNetwork.sort(longArray, order);
+                assertSorted(longs, longArray, order);
+
+                double[] doubles = Arrays.stream(ints).asDoubleStream().toArray();
+                double[] doubleArray = doubles.clone();
+                SortingNetwork.sort(doubleArray, order);
+                assertSorted(doubles, doubleArray, order);
+
+                Integer[] boxed = SortTesting.boxed(ints);
+                Integer[] boxedArray = boxed.clone();
+                SortingNetwork.sort(boxedArray, order);
+                assertSorted(boxed, boxedArray, order);
+            }
+        }
+    }
+
+    // -0.0 and NaN follow Double.compare, which Math.min and Math.max do not
+    @Test
+    void sortsDoublesInTheTotalOrder() {
+        double[] input = { Double.NaN, 0.0, -0.0, 1.5, Double.NEGATIVE_INFINITY, -0.0, Double.NaN, 0.0 };
+        for (Sort.Order order : Sort.Order.values()) {
+            double[] array = input.clone();
+            SortingNetwork.sort(array, order);
+            assertSorted(input, array, order);
+        }
+    }
+
+    // The range overloads the recursive sorters call leave the rest of the array alone
+    @Test
+    void sortsOnlyTheRange() {
+        int[] input = SortTesting.ints(SortTesting.Shape.RANDOM, 40);
+        for (int low = 0; low + SortingNetwork.MAX_SIZE <= input.length; low += 7) {
+            for (int size = 0; size <= SortingNetwork.MAX_SIZE; size++) {
+                int[] array = input.clone();
+                SortingNetwork.sort(array, low, low + size, false);
+                int[] expected = input.clone();
+                Arrays.sort(expected, low, low + size);
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    void rejectsArraysLargerThanMaxSize() {
+        int size = SortingNetwork.MAX_SIZE + 1;
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.sort(new int[size], Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.sort(new long[size], Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingNetwork.sort(new double[size], Sort.Order.ASCENDING));
+        assertThrows(IllegalArgumentException.class,
+                () -> SortingNetwork.sort(new Integer[size], Sort.Order.ASCENDING));
+    }
+}
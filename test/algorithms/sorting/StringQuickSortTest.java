@@ -0,0 +1,89 @@
+package algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StringQuickSortTest {
+    // Short alphabets and shared prefixes, so many keys tie on their first characters and
+    // some keys are prefixes of others
+    private static final String[] PREFIXES = { "", "a", "ab", "abc", "http://example.com/", "\uffff", "été" };
+
+    static Stream<Arguments> inputs() {
+        return IntStream.of(0, 1, 2, 12, 13, 100, 1_000, 10_000).boxed()
+                .flatMap(length -> Arrays.stream(Sort.Order.values()).map(order -> Arguments.of(length, order)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void sortsStringsLikeCompareTo(int length, Sort.Order order) {
+        String[] input = strings(length, new Random(length));
+        String[] array = input.clone();
+        StringQuickSort.sort(array, order);
+
+        String[] expected = input.clone();
+        Arrays.sort(expected, order == Sort.Order.ASCENDING ? Comparator.naturalOrder() : Comparator.reverseOrder());
+        assertArrayEquals(expected, array);
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void sortsBytesAsUnsigned(int length, Sort.Order order) {
+        Random random = new Random(length);
+        byte[][] input = new byte[length][];
+        for (int i = 0; i < length; i++) {
+            byte[] prefix = PREFIXES[random.nextInt(PREFIXES.length)].getBytes(StandardCharsets.UTF_8);
+            byte[] key = Arrays.copyOf(prefix, prefix.length + random.nextInt(4));
+            for (int j = prefix.length; j < key.length; j++) {
+                // Bytes from both halves, so a signed comparison would get them wrong
+                key[j] = (byte) (random.nextBoolean() ? random.nextInt(3) : 0x7e + random.nextInt(4));
+            }
+            input[i] = key;
+        }
+        byte[][] array = input.clone();
+        StringQuickSort.sort(array, order);
+
+        byte[][] expected = input.clone();
+        Comparator<byte[]> unsigned = Arrays::compareUnsigned;
+        Arrays.sort(expected, order == Sort.Order.ASCENDING ? unsigned : unsigned.reversed());
+        assertEquals(expected.length, array.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], array[i], "index " + i);
+        }
+    }
+
+    @Test
+    void sortsEqualAndEmptyKeys() {
+        String[] array = new String[100];
+        Arrays.fill(array, 0, 50, "same");
+        Arrays.fill(array, 50, 100, "");
+        StringQuickSort.sort(array, Sort.Order.ASCENDING);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i < 50 ? "" : "same", array[i]);
+        }
+    }
+
+    private static String[] strings(int length, Random random) {
+        String[] array = new String[length];
+        for (int i = 0; i < length; i++) {
+            StringBuilder key = new StringBuilder(PREFIXES[random.nextInt(PREFIXES.length)]);
+            int suffix = random.nextInt(4);
+            for (int j = 0; j < suffix; j++) {
+                key.append((char) (random.nextBoolean() ? 'a' + random.nextInt(3) : 0xfffd + random.nextInt(3)));
+            }
+            array[i] = key.toString();
+        }
+        return array;
+    }
+}
@@ -0,0 +1,90 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import datastructures.linear.array.DynamicArray;
+
+class HashMapTest {
+    // Random inserts, overwrites, removes and the odd clear, checked against java.util.HashMap.
+    // Growing from the default capacity to the key range takes several resizes, and in
+    // incremental mode the full checks land while buckets are still being migrated.
+    @ParameterizedTest
+    @CsvSource({ "false, 100", "false, 50000", "true, 100", "true, 1000", "true, 50000" })
+    void matchesJavaUtilHashMap(boolean incrementalResize, int keyRange) {
+        Random random = new Random(keyRange);
+        HashMap<Integer, Integer> map = new HashMap<>(incrementalResize);
+        java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+        int operations = 4 * keyRange + 1_000;
+        for (int i = 0; i < operations; i++) {
+            int key = random.nextInt(keyRange) - keyRange / 2;
+            int operation = random.nextInt(1_000);
+            if (operation == 0) {
+                map.clear();
+                expected.clear();
+            } else if (operation < (i < operations / 2 ? 250 : 500)) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.insert(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.size(), map.size());
+            if (random.nextInt(Math.max(1, keyRange / 20)) == 0) {
+                assertSameContents(expected, map, keyRange);
+            }
+        }
+        assertSameContents(expected, map, keyRange);
+    }
+
+    // Filled straight from empty, so every check after a resize sees a table mid-migration
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void keepsEveryKeyThroughResizes(boolean incrementalResize) {
+        HashMap<Integer, Integer> map = new HashMap<>(incrementalResize);
+        for (int i = 0; i < 5_000; i++) {
+            map.insert(i, -i);
+            assertEquals(i + 1, map.keys().size());
+            assertEquals(-i / 2, map.get(i / 2));
+        }
+        for (int i = 0; i < 5_000; i++) {
+            map.remove(i);
+            assertNull(map.get(i));
+            assertEquals(4_999 - i, map.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void rejectsNullKeysAndValues(boolean incrementalResize) {
+        HashMap<Integer, Integer> map = new HashMap<>(incrementalResize);
+        assertThrows(IllegalArgumentException.class, () -> map.insert(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.insert(1, null));
+        assertThrows(IllegalArgumentException.class, () -> map.get(null));
+        assertThrows(IllegalArgumentException.class, () -> map.remove(null));
+        assertThrows(IllegalArgumentException.class, () -> map.containsKey(null));
+    }
+
+    private static void assertSameContents(java.util.HashMap<Integer, Integer> expected,
+            HashMap<Integer, Integer> map, int keyRange) {
+        DynamicArray<Integer> keys = map.keys();
+        Set<Integer> actual = IntStream.range(0, keys.size()).mapToObj(keys::get).collect(Collectors.toSet());
+        assertEquals(expected.keySet(), actual);
+        assertEquals(expected.size(), keys.size());
+        for (int key = -keyRange / 2; key < keyRange - keyRange / 2; key++) {
+            assertEquals(expected.get(key), map.get(key), "key " + key);
+            assertEquals(expected.containsKey(key), map.containsKey(key), "key " + key);
+        }
+    }
+}
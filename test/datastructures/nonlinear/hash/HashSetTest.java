@@ -0,0 +1,87 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import datastructures.linear.array.DynamicArray;
+
+class HashSetTest {
+    // Random adds, removes and the odd clear, checked against java.util.HashSet, through
+    // several resizes and, in incremental mode, while buckets are still being migrated
+    @ParameterizedTest
+    @CsvSource({ "false, 100", "false, 50000", "true, 100", "true, 1000", "true, 50000" })
+    void matchesJavaUtilHashSet(boolean incrementalResize, int range) {
+        Random random = new Random(range);
+        HashSet<Integer> set = new HashSet<>(incrementalResize);
+        java.util.HashSet<Integer> expected = new java.util.HashSet<>();
+        int operations = 4 * range + 1_000;
+        for (int i = 0; i < operations; i++) {
+            int element = random.nextInt(range) - range / 2;
+            int operation = random.nextInt(1_000);
+            if (operation == 0) {
+                set.clear();
+                expected.clear();
+            } else if (operation < (i < operations / 2 ? 250 : 500)) {
+                set.remove(element);
+                expected.remove(element);
+            } else {
+                set.add(element);
+                expected.add(element);
+            }
+            assertEquals(expected.contains(element), set.contains(element));
+            assertEquals(expected.size(), set.size());
+            if (random.nextInt(Math.max(1, range / 20)) == 0) {
+                assertSameContents(expected, set, range);
+            }
+        }
+        assertSameContents(expected, set, range);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void keepsEveryElementThroughResizes(boolean incrementalResize) {
+        HashSet<Integer> set = new HashSet<>(incrementalResize);
+        for (int i = 0; i < 5_000; i++) {
+            set.add(i);
+            set.add(i / 2);
+            assertEquals(i + 1, set.elements().size());
+            assertTrue(set.contains(i / 2));
+        }
+        for (int i = 0; i < 5_000; i++) {
+            set.remove(i);
+            assertFalse(set.contains(i));
+            assertEquals(4_999 - i, set.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    void rejectsNullElements(boolean incrementalResize) {
+        HashSet<Integer> set = new HashSet<>(incrementalResize);
+        assertThrows(IllegalArgumentException.class, () -> set.add(null));
+        assertThrows(IllegalArgumentException.class, () -> set.contains(null));
+        assertThrows(IllegalArgumentException.class, () -> set.remove(null));
+    }
+
+    private static void assertSameContents(java.util.HashSet<Integer> expected, HashSet<Integer> set, int range) {
+        DynamicArray<Integer> elements = set.elements();
+        Set<Integer> actual = IntStream.range(0, elements.size()).mapToObj(elements::get)
+                .collect(Collectors.toSet());
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), elements.size());
+        for (int element = -range / 2; element < range - range / 2; element++) {
+            assertEquals(expected.contains(element), set.contains(element), "element " + element);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+class HashingTest {
+    private static final int BUCKETS = 1 << 10;
+    private static final int KEYS = 64 * BUCKETS;
+
+    @Test
+    void capacityForIsTheSmallestPowerOfTwoWithinTheLoadFactor() {
+        assertEquals(16, Hashing.capacityFor(0, 0.75, 16));
+        assertEquals(16, Hashing.capacityFor(12, 0.75, 16));
+        assertEquals(32, Hashing.capacityFor(13, 0.75, 16));
+        assertEquals(1 << 20, Hashing.capacityFor(786_432, 0.75, 16));
+        assertEquals(1 << 21, Hashing.capacityFor(786_433, 0.75, 16));
+        assertEquals(4, Hashing.capacityFor(3, 1.0, 4));
+        assertEquals(Hashing.MAX_CAPACITY, Hashing.capacityFor(Hashing.MAX_CAPACITY / 2, 0.5, 16));
+    }
+
+    @Test
+    void capacityForRejectsImpossibleSizes() {
+        assertThrows(IllegalArgumentException.class, () -> Hashing.capacityFor(-1, 0.75, 16));
+        assertThrows(IllegalArgumentException.class, () -> Hashing.capacityFor(Integer.MAX_VALUE, 0.75, 16));
+    }
+
+    // Keys that a plain mask would pile into a single bucket: multiples of the table size,
+    // and keys that only differ in their high bits
+    @Test
+    void spreadFillsBucketsEvenlyForStridedKeys() {
+        assertEvenlySpread(i -> Hashing.spread(i * BUCKETS));
+        assertEvenlySpread(i -> Hashing.spread(i << 16));
+        assertEvenlySpread(i -> Hashing.spread((long) i << 32));
+        assertEvenlySpread(i -> Hashing.spread((long) i << 48 | 7));
+        assertEvenlySpread(i -> Hashing.spread((long) i * BUCKETS));
+    }
+
+    // Flipping any one input bit flips about half of the output bits
+    @Test
+    void spreadAvalanches() {
+        Random random = new Random(24);
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            long flipped = 0;
+            int samples = 1_000;
+            for (int i = 0; i < samples; i++) {
+                long key = random.nextLong();
+                flipped += Integer.bitCount(Hashing.spread(key) ^ Hashing.spread(key ^ (1L << bit)));
+                if (bit < Integer.SIZE) {
+                    int intKey = (int) key;
+                    flipped += Integer.bitCount(Hashing.spread(intKey) ^ Hashing.spread(intKey ^ (1 << bit)));
+                }
+            }
+            double average = (double) flipped / (bit < Integer.SIZE ? 2 * samples : samples);
+            assertTrue(average > 14 && average < 18, "bit " + bit + " flips " + average + " output bits");
+        }
+    }
+
+    // KEYS keys over BUCKETS buckets average 64 a bucket; a uniform hash keeps every bucket
+    // well within twice that
+    private static void assertEvenlySpread(IntUnaryOperator hash) {
+        int[] counts = new int[BUCKETS];
+        for (int i = 0; i < KEYS; i++) {
+            counts[hash.applyAsInt(i) & (BUCKETS - 1)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 20 && count < 128, "bucket holds " + count + " of " + KEYS + " keys");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class IntHashSetTest {
+    // Random adds, removes and the odd clear, checked against java.util.HashSet, with 0
+    // (kept outside the table) and negative elements among them
+    @ParameterizedTest
+    @CsvSource({ "100, 1", "50000, 1", "1000, 65536", "50000, 65536" })
+    void matchesJavaUtilHashSet(int range, int stride) {
+        Random random = new Random(range + stride);
+        IntHashSet set = new IntHashSet();
+        java.util.HashSet<Integer> expected = new java.util.HashSet<>();
+        int operations = 4 * range + 1_000;
+        for (int i = 0; i < operations; i++) {
+            int element = (random.nextInt(range) - range / 2) * stride;
+            int operation = random.nextInt(1_000);
+            if (operation == 0) {
+                set.clear();
+                expected.clear();
+            } else if (operation < (i < operations / 2 ? 250 : 500)) {
+                set.remove(element);
+                expected.remove(element);
+            } else {
+                set.add(element);
+                expected.add(element);
+            }
+            assertEquals(expected.contains(element), set.contains(element));
+            assertEquals(expected.size(), set.size());
+            if (random.nextInt(Math.max(1, range / 20)) == 0) {
+                assertSameContents(expected, set, range, stride);
+            }
+        }
+        assertSameContents(expected, set, range, stride);
+    }
+
+    @Test
+    void zeroIsAnOrdinaryElement() {
+        IntHashSet set = new IntHashSet();
+        assertFalse(set.contains(0));
+        set.add(0);
+        set.add(0);
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+        assertArrayEquals(new int[] { 0 }, set.elements());
+        set.remove(0);
+        assertFalse(set.contains(0));
+        assertTrue(set.isEmpty());
+    }
+
+    private static void assertSameContents(java.util.HashSet<Integer> expected, IntHashSet set, int range,
+            int stride) {
+        int[] elements = set.elements();
+        Arrays.sort(elements);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), elements);
+        for (int i = -range / 2; i < range - range / 2; i++) {
+            assertEquals(expected.contains(i * stride), set.contains(i * stride), "element " + i * stride);
+        }
+    }
+}
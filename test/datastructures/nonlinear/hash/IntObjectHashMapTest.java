@@ -0,0 +1,77 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class IntObjectHashMapTest {
+    // Random inserts, overwrites, removes and the odd clear, checked against java.util.HashMap.
+    // Keys are centred on 0, so key 0 and negative keys take part; a stride of 1 << 16 gives
+    // keys that differ only in their high bits.
+    @ParameterizedTest
+    @CsvSource({ "100, 1", "50000, 1", "1000, 65536", "50000, 65536" })
+    void matchesJavaUtilHashMap(int keyRange, int stride) {
+        Random random = new Random(keyRange + stride);
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>();
+        java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+        int operations = 4 * keyRange + 1_000;
+        for (int i = 0; i < operations; i++) {
+            int key = (random.nextInt(keyRange) - keyRange / 2) * stride;
+            int operation = random.nextInt(1_000);
+            if (operation == 0) {
+                map.clear();
+                expected.clear();
+            } else if (operation < (i < operations / 2 ? 250 : 500)) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.insert(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.size(), map.size());
+            if (random.nextInt(Math.max(1, keyRange / 20)) == 0) {
+                assertSameContents(expected, map, keyRange, stride);
+            }
+        }
+        assertSameContents(expected, map, keyRange, stride);
+    }
+
+    @Test
+    void keyZeroIsAnOrdinaryKey() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertNull(map.get(0));
+        map.insert(0, "zero");
+        assertEquals("zero", map.get(0));
+        assertArrayEquals(new int[] { 0 }, map.keys());
+        map.remove(0);
+        assertNull(map.get(0));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void rejectsNullValues() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.insert(1, null));
+    }
+
+    private static void assertSameContents(java.util.HashMap<Integer, Integer> expected,
+            IntObjectHashMap<Integer> map, int keyRange, int stride) {
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.keySet().stream().mapToInt(Integer::intValue).sorted().toArray(), keys);
+        for (int i = -keyRange / 2; i < keyRange - keyRange / 2; i++) {
+            int key = i * stride;
+            assertEquals(expected.get(key), map.get(key), "key " + key);
+            assertEquals(expected.containsKey(key), map.containsKey(key), "key " + key);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LongLongHashMapTest {
+    // Random inserts, addTo updates, removes and the odd clear, checked against
+    // java.util.HashMap. Key 0 lives outside the table; a stride of 1 << 32 gives keys whose
+    // low 32 bits are all the same.
+    @ParameterizedTest
+    @CsvSource({ "100, 1", "50000, 1", "1000, 4294967296", "50000, 4294967296" })
+    void matchesJavaUtilHashMap(int keyRange, long stride) {
+        Random random = new Random(keyRange);
+        LongLongHashMap map = new LongLongHashMap();
+        java.util.HashMap<Long, Long> expected = new java.util.HashMap<>();
+        int operations = 4 * keyRange + 1_000;
+        for (int i = 0; i < operations; i++) {
+            long key = (random.nextInt(keyRange) - keyRange / 2) * stride;
+            int operation = random.nextInt(1_000);
+            if (operation == 0) {
+                map.clear();
+                expected.clear();
+            } else if (operation < (i < operations / 2 ? 250 : 500)) {
+                map.remove(key);
+                expected.remove(key);
+            } else if (operation < 750) {
+                long delta = random.nextInt(100) - 50;
+                assertEquals(expected.merge(key, delta, Long::sum), map.addTo(key, delta));
+            } else {
+                map.insert(key, i);
+                expected.put(key, (long) i);
+            }
+            assertEquals(expected.getOrDefault(key, -1L), map.get(key, -1));
+            assertEquals(expected.size(), map.size());
+            if (random.nextInt(Math.max(1, keyRange / 20)) == 0) {
+                assertSameContents(expected, map, keyRange, stride);
+            }
+        }
+        assertSameContents(expected, map, keyRange, stride);
+    }
+
+    @Test
+    void keyZeroIsAnOrdinaryKey() {
+        LongLongHashMap map = new LongLongHashMap();
+        assertEquals(-1, map.get(0, -1));
+        assertEquals(5, map.addTo(0, 5));
+        assertEquals(7, map.addTo(0, 2));
+        assertTrue(map.containsKey(0));
+        assertArrayEquals(new long[] { 0 }, map.keys());
+        map.remove(0);
+        assertFalse(map.containsKey(0));
+        assertEquals(3, map.addTo(0, 3));
+        map.clear();
+        assertEquals(0, map.size());
+    }
+
+    private static void assertSameContents(java.util.HashMap<Long, Long> expected, LongLongHashMap map,
+            int keyRange, long stride) {
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray(), keys);
+        for (long i = -keyRange / 2; i < keyRange - keyRange / 2; i++) {
+            long key = i * stride;
+            assertEquals(expected.getOrDefault(key, -1L), map.get(key, -1), "key " + key);
+            assertEquals(expected.containsKey(key), map.containsKey(key), "key " + key);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package datastructures.nonlinear.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RobinHoodHashMapTest {
+    // A key whose hash code only takes `buckets` values, so long collision runs form and the
+    // Robin Hood displacement and backward shift both get exercised
+    record Key(int id, int buckets) {
+        @Override
+        public int hashCode() {
+            return id % buckets;
+        }
+    }
+
+    // Random inserts, overwrites and removes, checked against java.util.HashMap after every
+    // operation for the touched key and in full every so often
+    @ParameterizedTest
+    @CsvSource({ "1, 100", "7, 1000", "1000000, 1000", "1000000, 100000", "3, 2000" })
+    void matchesJavaUtilHashMap(int buckets, int keyRange) {
+        Random random = new Random(keyRange + buckets);
+        RobinHoodHashMap<Key, Integer> map = new RobinHoodHashMap<>();
+        java.util.HashMap<Key, Integer> expected = new java.util.HashMap<>();
+        int operations = Math.min(200_000, 40 * keyRange);
+        for (int i = 0; i < operations; i++) {
+            Key key = new Key(random.nextInt(keyRange), buckets);
+            // Mostly inserts early on, then as many removes as inserts
+            if (random.nextInt(i < operations / 2 ? 4 : 2) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.insert(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.size(), map.size());
+            if (i % (operations / 10) == 0) {
+                assertSameContents(expected, map, keyRange, buckets);
+            }
+        }
+        assertSameContents(expected, map, keyRange, buckets);
+    }
+
+    @Test
+    void presizedMapGrowsPastItsExpectedSize() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(10);
+        for (int i = 0; i < 10_000; i++) {
+            map.insert(i, -i);
+        }
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(-i, map.get(i));
+        }
+    }
+
+    @Test
+    void clearEmptiesTheMap() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>();
+        IntStream.range(0, 100).forEach(i -> map.insert(i, i));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(5));
+        assertEquals(0, map.keys().size());
+        map.insert(5, 6);
+        assertEquals(6, map.get(5));
+    }
+
+    @Test
+    void rejectsNullKeysAndValues() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.insert(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.insert(1, null));
+        assertThrows(IllegalArgumentException.class, () -> map.get(null));
+        assertThrows(IllegalArgumentException.class, () -> map.remove(null));
+        assertThrows(IllegalArgumentException.class, () -> map.containsKey(null));
+    }
+
+    private static void assertSameContents(java.util.HashMap<Key, Integer> expected,
+            RobinHoodHashMap<Key, Integer> map, int keyRange, int buckets) {
+        for (int id = 0; id < keyRange; id++) {
+            Key key = new Key(id, buckets);
+            assertEquals(expected.get(key), map.get(key), "key " + id);
+            assertEquals(expected.containsKey(key), map.containsKey(key), "key " + id);
+        }
+        Set<Key> keys = IntStream.range(0, map.keys().size()).mapToObj(map.keys()::get).collect(Collectors.toSet());
+        assertEquals(expected.keySet(), keys);
+        assertEquals(expected.size(), map.keys().size());
+    }
+}